@@ -0,0 +1,29 @@
+package benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * A driver for the benchmarks, which always attaches the GC profiler so allocation rate is reported per operation
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public class BenchmarkRunner {
+    /**
+     *
+     * @param args accepts the usual JMH command line, e.g. a regex of benchmarks to run
+     * @throws RunnerException when a benchmark fails
+     * @throws CommandLineOptionException when the command line is not valid
+     */
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
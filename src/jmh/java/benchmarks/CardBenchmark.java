@@ -0,0 +1,57 @@
+package benchmarks;
+
+import entities.Card;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks parsing a single coded card
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardBenchmark {
+    @Param({HandDatasets.DEALT, HandDatasets.BALANCED})
+    public String dataset;
+
+    private char[] ranks;
+    private char[] suits;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        String[] lines = HandDatasets.lines(dataset);
+        ranks = new char[lines.length];
+        suits = new char[lines.length];
+        for (int i = 0; i < lines.length; i++) {
+            //take a different card from each line so every rank and suit is exercised
+            int offset = (i % 5) * 3;
+            ranks[i] = lines[i].charAt(offset);
+            suits[i] = lines[i].charAt(offset + 1);
+        }
+    }
+
+    @Benchmark
+    public Card createCard() {
+        int i = index;
+        index = (i + 1) & (HandDatasets.SIZE - 1);
+        return Card.CreateCard(ranks[i], suits[i]);
+    }
+}
@@ -0,0 +1,124 @@
+package benchmarks;
+
+import entities.Card;
+import entities.CardCodec;
+import entities.Hand;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks constructing a hand, each of its predicates, naming it and formatting it
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandBenchmark {
+    @Param({HandDatasets.DEALT, HandDatasets.BALANCED})
+    public String dataset;
+
+    private Card[][] cards;
+    private Hand[] hands;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        hands = HandDatasets.hands(dataset);
+        cards = new Card[hands.length][];
+        for (int i = 0; i < hands.length; i++) {
+            cards[i] = CardCodec.cards(hands[i].getCardMask());
+        }
+    }
+
+    @Benchmark
+    public Hand construct() {
+        return new Hand(cards[next()]);
+    }
+
+    @Benchmark
+    public boolean isHighCard() {
+        return hands[next()].isHighCard();
+    }
+
+    @Benchmark
+    public boolean isOnePair() {
+        return hands[next()].isOnePair();
+    }
+
+    @Benchmark
+    public boolean isTwoPair() {
+        return hands[next()].isTwoPair();
+    }
+
+    @Benchmark
+    public boolean isThreeOfAKind() {
+        return hands[next()].isThreeOfAKind();
+    }
+
+    @Benchmark
+    public boolean isStraight() {
+        return hands[next()].isStraight();
+    }
+
+    @Benchmark
+    public boolean isFlush() {
+        return hands[next()].isFlush();
+    }
+
+    @Benchmark
+    public boolean isFullHouse() {
+        return hands[next()].isFullHouse();
+    }
+
+    @Benchmark
+    public boolean isFourOfAKind() {
+        return hands[next()].isFourOfAKind();
+    }
+
+    @Benchmark
+    public boolean isStraightFlush() {
+        return hands[next()].isStraightFlush();
+    }
+
+    @Benchmark
+    public boolean isRoyalFlush() {
+        return hands[next()].isRoyalFlush();
+    }
+
+    @Benchmark
+    public String handName() {
+        return hands[next()].handName();
+    }
+
+    @Benchmark
+    public String referenceHandName() {
+        return hands[next()].referenceHandName();
+    }
+
+    @Benchmark
+    public String formatHand() {
+        return hands[next()].toString();
+    }
+
+    private int next() {
+        int i = index;
+        index = (i + 1) & (HandDatasets.SIZE - 1);
+        return i;
+    }
+}
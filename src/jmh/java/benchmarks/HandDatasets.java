@@ -0,0 +1,136 @@
+package benchmarks;
+
+import entities.Card;
+import entities.CardCodec;
+import entities.Hand;
+import entities.HandEvaluator;
+import enums.HandCategory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * This class represents the datasets the benchmarks run against, and contains functionality to deal hands either
+ * as they fall from a shuffled deck or balanced evenly across the hand categories
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+final class HandDatasets {
+    static final String DEALT = "dealt";
+    static final String BALANCED = "balanced";
+
+    //a power of two, so benchmarks can cycle through a dataset with a mask
+    static final int SIZE = 1 << 12;
+
+    private static final long SEED = 20240501L;
+
+    private HandDatasets() {
+    }
+
+    /**
+     * Builds a dataset of card masks
+     *
+     * @param name String either DEALT or BALANCED
+     * @return long[] card masks of SIZE five card hands
+     */
+    static long[] masks(String name) {
+        return BALANCED.equals(name) ? balanced() : dealt();
+    }
+
+    /**
+     * Builds a dataset of hands
+     *
+     * @param name String either DEALT or BALANCED
+     * @return Hand[] SIZE five card hands
+     */
+    static Hand[] hands(String name) {
+        long[] masks = masks(name);
+        Hand[] hands = new Hand[masks.length];
+        for (int i = 0; i < masks.length; i++) {
+            hands[i] = new Hand(CardCodec.cards(masks[i]));
+        }
+        return hands;
+    }
+
+    /**
+     * Builds a dataset of coded hand lines, as read from a hand file ("QC JC KC AC TC")
+     *
+     * @param name String either DEALT or BALANCED
+     * @return String[] SIZE coded hands
+     */
+    static String[] lines(String name) {
+        long[] masks = masks(name);
+        Random random = new Random(SEED);
+        String[] lines = new String[masks.length];
+        for (int i = 0; i < masks.length; i++) {
+            List<String> codes = new ArrayList<>();
+            for (Card card : CardCodec.cards(masks[i])) {
+                codes.add(card.rank().toString() + card.suit());
+            }
+            //shuffle so cards are not in id order, as in real input
+            Collections.shuffle(codes, random);
+            lines[i] = String.join(" ", codes);
+        }
+        return lines;
+    }
+
+    /**
+     * Utility method
+     * Deals hands from a shuffled deck, so categories appear as often as they do at the table
+     *
+     * @return long[] card masks
+     */
+    private static long[] dealt() {
+        Random random = new Random(SEED);
+        long[] masks = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            long mask = 0L;
+            while (Long.bitCount(mask) < 5) {
+                mask |= CardCodec.bit(random.nextInt(CardCodec.CARD_COUNT));
+            }
+            masks[i] = mask;
+        }
+        return masks;
+    }
+
+    /**
+     * Utility method
+     * Enumerates every five card hand, buckets them by category, and draws the same number from each bucket
+     *
+     * @return long[] card masks, with the categories interleaved
+     */
+    private static long[] balanced() {
+        List<List<Long>> buckets = new ArrayList<>();
+        for (int category = 0; category < HandCategory.COUNT; category++) {
+            buckets.add(new ArrayList<>());
+        }
+        int perCategory = SIZE / HandCategory.COUNT + 1;
+        for (int a = 4; a < CardCodec.CARD_COUNT; a++) {
+            for (int b = 3; b < a; b++) {
+                for (int c = 2; c < b; c++) {
+                    for (int d = 1; d < c; d++) {
+                        for (int e = 0; e < d; e++) {
+                            long mask = CardCodec.mask(a, b, c, d, e);
+                            List<Long> bucket = buckets.get(HandEvaluator.category(mask));
+                            //keep a bounded, spread out sample of the common categories
+                            if (bucket.size() < perCategory * 64) {
+                                bucket.add(mask);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        Random random = new Random(SEED);
+        long[] masks = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            List<Long> bucket = buckets.get(i % HandCategory.COUNT);
+            masks[i] = bucket.get(random.nextInt(bucket.size()));
+        }
+        return masks;
+    }
+}
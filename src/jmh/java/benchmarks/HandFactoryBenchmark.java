@@ -0,0 +1,59 @@
+package benchmarks;
+
+import entities.Hand;
+import entities.HandFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks building a hand from a coded line, and the full parse, construct, evaluate and format path
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandFactoryBenchmark {
+    @Param({HandDatasets.DEALT, HandDatasets.BALANCED})
+    public String dataset;
+
+    private String[] lines;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        lines = HandDatasets.lines(dataset);
+    }
+
+    @Benchmark
+    public Hand makeHandFromString() {
+        return HandFactory.MakeHandFromString(nextLine());
+    }
+
+    @Benchmark
+    public String evaluateLine() {
+        Hand hand = HandFactory.MakeHandFromString(nextLine());
+        return hand + " => " + hand.handName();
+    }
+
+    private String nextLine() {
+        int i = index;
+        index = (i + 1) & (HandDatasets.SIZE - 1);
+        return lines[i];
+    }
+}
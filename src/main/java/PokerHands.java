@@ -1,11 +1,48 @@
-import entities.Hand;
+import entities.Card;
+import entities.EquityCalculator;
+import entities.EquityResult;
+import entities.EvaluationCache;
+import entities.HandEnumerator;
+import entities.HandEvaluator;
 import entities.HandFactory;
+import entities.HandParser;
+import entities.MappedStrengthTable;
+import enums.EvictionPolicy;
+import enums.HandCategory;
+import enums.HandRanking;
+import enums.OutputFormat;
+import enums.ParseStatus;
+import enums.PipelineStage;
+import io.BatchFileEvaluator;
+import io.BatchSummary;
+import io.BinaryHandFormat;
+import io.BinaryHandWriter;
+import io.EvaluationServer;
+import io.HandSink;
+import io.IoExecutors;
+import io.MappedHandFileEvaluator;
+import io.RejectWriter;
+import io.ShowdownFileEvaluator;
+import io.ShowdownTally;
+import metrics.PipelineMetrics;
+import metrics.StageMetrics;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
-import java.io.FileNotFoundException;
 import java.io.FileReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * A driver for the poker Hand class
@@ -14,17 +51,105 @@ import java.util.Scanner;
  * @version 1.0
  */
 public class PokerHands {
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+
+    private static final long DEFAULT_TRIALS = 1_000_000;
+
+    private static final int DEFAULT_PORT = 8080;
+    private static final int DEFAULT_MAX_BATCH = 1024;
+    private static final long DEFAULT_MAX_WAIT_MICROS = 500;
+
+    //options running a mode that does not read a text file a line at a time, which --metrics cannot time
+    private static final List<String> UNTIMED_MODES = List.of("parallel", "showdown", "batch", "serve", "equity",
+            "enumerate", "build-table", "convert");
+    //options running a mode that never evaluates single hands in chunks, which --cache cannot speed up
+    private static final List<String> UNCACHED_MODES = List.of("showdown", "batch", "serve", "equity", "enumerate",
+            "build-table", "convert");
+
     /**
      *
-     * @param args accepts a filename for a text file containing poker hands
-     * @throws FileNotFoundException when file given cannot be found
+     * @param args accepts a filename for a text file containing poker hands, or a binary hand file written by
+     *             --convert which is always evaluated as by --parallel and takes neither --rejects nor --metrics,
+     *             optionally preceded by options
+     *             --parallel to evaluate the file in memory mapped chunks across all cores
+     *             --rejects=FILE to skip lines that are not valid hands instead of stopping, writing each to FILE with
+     *             its line number and reason
+     *             --format=text, csv, binary or summary to write results through a HandSink in that format, in
+     *             any mode reading a single file: text matches the default output, csv gives "hand,category,score",
+     *             binary gives category and score arrays, and summary only the count of each category
+     *             --metrics to time each stage of the line by line mode, with or without --rejects and --format,
+     *             and print their counts, errors and latency percentiles to standard error at the end, which is
+     *             refused for any other mode. No Card or Hand objects are built, so the stages are: read (readLine),
+     *             parse (tryParseLine, card codes to ids with the card count and duplicate checks), construct (toMask,
+     *             the card mask in place of a Hand), evaluate (HandEvaluator.strength) and format (HandSink.write)
+     *             --threads=N to set the number of threads used by the parallel modes
+     *             --cache=N to look hands up in a cache of N entries in the parallel mode or for a binary hand
+     *             file, with or without --format, evicting by --cache-policy=clock or lru (default clock), and print
+     *             its hits and misses to standard error at the end, which is refused for any other mode
+     *             --equity to estimate hold'em equity instead, where the arguments are each player's hole cards
+     *             ("AS KS" "QH QD"), with --board="2C 7D 9H" for cards already dealt and --trials=N boards to deal
+     *             --enumerate to evaluate every five card hand instead and check the category counts, with --verify
+     *             to also check every category against the Hand predicates
+     *             --batch to evaluate every file named by the arguments instead, each a file, directory or quoted
+     *             glob ("hands/*.txt"), writing each file's results to a .out file beside it or in --out=DIR
+     *             --serve to run a local evaluation server instead, on --port=N (default 8080) of the loopback
+     *             interface, coalescing requests into batches of up to --max-batch=N hands (default 1024) waiting at
+     *             most --max-wait-micros=N (default 500)
+     *             --build-table=FILE to generate the strength table file for --cards=N (5 to 7, default 5) cards
+     *             and check it maps and verifies, for code that maps it through MappedStrengthTable, ranked by
+     *             --ranking=high, ace-to-five or deuce-to-seven (default high, and deuce-to-seven takes 5 cards only)
+     *             --convert=FILE to convert the text hand file argument instead into a binary hand file, failing on
+     *             the first bad line unless --rejects=FILE is given
+     *             --showdown to read the file as showdowns instead, each line holding two or more hands separated by
+     *             "|", writing the winning seat of each line ("1", or "Tie 1 2" for a split pot) and then the wins
+     *             and splits of each seat to standard error, with --rejects=FILE to skip bad lines
+     * @throws IOException when file given cannot be found or read
      */
-    public static void main(String[] args) throws FileNotFoundException {
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<>();
+        List<String> arguments = new ArrayList<>();
+        parseArgs(args, options, arguments);
+        if (exitOnUsageError(findUsageError(options, arguments))) {
+            return;
+        }
+
+        if (options.containsKey("equity")) {
+            calculateEquity(arguments, options);
+            return;
+        }
+        if (options.containsKey("enumerate")) {
+            if (!enumerateAllHands(getThreads(options), options.containsKey("verify"))) {
+                System.exit(1);
+            }
+            return;
+        }
+
+        if (options.containsKey("batch")) {
+            String out = options.get("out");
+            if (evaluateBatch(arguments, out == null ? null : Path.of(out), getThreads(options)) > 0) {
+                System.exit(1);
+            }
+            return;
+        }
+        if (options.containsKey("serve")) {
+            serve(options);
+            return;
+        }
+        if (options.containsKey("build-table")) {
+            buildTable(Path.of(options.get("build-table")), Integer.parseInt(options.getOrDefault("cards", "5")),
+                    HandRanking.fromName(options.getOrDefault("ranking", "high")));
+            return;
+        }
+        if (options.containsKey("convert")) {
+            convertToBinary(arguments.get(0), options.get("convert"), options.get("rejects"));
+            return;
+        }
+
         String filename = null;
 
         //check if file path has been passed in command line args
-        if(args.length > 0) {
-            filename = args[0];
+        if(!arguments.isEmpty()) {
+            filename = arguments.get(0);
         }
 
         //if filename not passed, prompt for file path to be entered
@@ -37,23 +162,608 @@ public class PokerHands {
             filename = scanner.nextLine();
         }
 
-        readTestsTxtFile(filename);
+        if (exitOnUsageError(findUsageError(options, filename))) {
+            return;
+        }
+
+        String rejects = options.get("rejects");
+        if (options.containsKey("showdown")) {
+            readShowdownFile(filename, getThreads(options), rejects);
+        } else if (isBinaryFile(filename) && !options.containsKey("format")) {
+            readBinaryFile(filename, getThreads(options), getCache(options));
+        } else if (options.containsKey("parallel") && !options.containsKey("format")) {
+            readTestsTxtFileInParallel(filename, getThreads(options), getCache(options), rejects);
+        } else {
+            readTestsTxtFile(filename, OutputFormat.fromName(options.getOrDefault("format", "text")),
+                    options.containsKey("parallel"), getThreads(options), getCache(options), rejects,
+                    options.containsKey("metrics") ? new PipelineMetrics() : null);
+        }
+    }
+
+    /**
+     * Splits the command line into options ("--name" or "--name=value") and plain arguments
+     *
+     * @param args String[] command line
+     * @param options Map to add options to, by name without the leading dashes
+     * @param arguments List to add plain arguments to, in order
+     */
+    static void parseArgs(String[] args, Map<String, String> options, List<String> arguments) {
+        for (String arg : args) {
+            if (arg.startsWith("--")) {
+                int equals = arg.indexOf('=');
+                if (equals < 0) {
+                    options.put(arg.substring(2), "");
+                } else {
+                    options.put(arg.substring(2, equals), arg.substring(equals + 1));
+                }
+            } else {
+                arguments.add(arg);
+            }
+        }
+    }
+
+    /**
+     * Checks the options and arguments fit together before any mode is run
+     *
+     * @param options Map of options
+     * @param arguments List of plain arguments
+     * @return String describing the problem, or null when there is none
+     */
+    static String findUsageError(Map<String, String> options, List<String> arguments) {
+        if (options.containsKey("convert") && arguments.isEmpty()) {
+            return "--convert=FILE needs the text hand file to convert, e.g. --convert=Hands.bin Hands.txt";
+        }
+        if (options.containsKey("equity") && arguments.size() > EquityCalculator.MAX_PLAYERS) {
+            return EquityCalculator.tooManyPlayers(arguments.size());
+        }
+        if (options.containsKey("metrics")) {
+            for (String mode : UNTIMED_MODES) {
+                if (options.containsKey(mode)) {
+                    return "--metrics only times the line by line mode, so cannot be used with --" + mode;
+                }
+            }
+        }
+        if (options.containsKey("cache")) {
+            for (String mode : UNCACHED_MODES) {
+                if (options.containsKey(mode)) {
+                    return "--cache is only used by --parallel and binary hand files, so cannot be used with --" + mode;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks the options fit the file to be evaluated, once its name is known
+     *
+     * @param options Map of options
+     * @param fileName String file to evaluate
+     * @return String describing the problem, or null when there is none
+     * @throws IOException when the file cannot be checked
+     */
+    static String findUsageError(Map<String, String> options, String fileName) throws IOException {
+        if ((options.containsKey("rejects") || options.containsKey("metrics")) && isBinaryFile(fileName)) {
+            return "--rejects and --metrics cannot be used with a binary hand file, which has no lines to reject"
+                    + " and is not read a line at a time";
+        }
+        if (options.containsKey("cache") && !options.containsKey("parallel") && !isBinaryFile(fileName)) {
+            return "--cache is only used by --parallel and binary hand files, so needs --parallel for a text file";
+        }
+        return null;
+    }
+
+    /**
+     * Utility method
+     * Prints a usage error to standard error and exits with status 1, when there is one
+     */
+    private static boolean exitOnUsageError(String error) {
+        if (error == null) {
+            return false;
+        }
+        System.err.println("Usage error: " + error);
+        System.exit(1);
+        return true;
+    }
+
+    /**
+     * Gets the number of threads to use from the options, defaulting to the number of cores
+     *
+     * @param options Map of options
+     * @return int number of threads
+     */
+    static int getThreads(Map<String, String> options) {
+        String threads = options.get("threads");
+        return threads == null || threads.isEmpty() ? Runtime.getRuntime().availableProcessors() : Integer.parseInt(threads);
+    }
+
+    /**
+     * Creates the evaluation cache asked for by the options
+     *
+     * @param options Map of options, reading cache and cache-policy
+     * @return EvaluationCache, or null when no cache was asked for
+     */
+    static EvaluationCache getCache(Map<String, String> options) {
+        String capacity = options.get("cache");
+        if (capacity == null) {
+            return null;
+        }
+        EvictionPolicy policy = EvictionPolicy.fromName(options.getOrDefault("cache-policy", "clock"));
+        return new EvaluationCache(Integer.parseInt(capacity), policy);
     }
 
     /**
-     * Reads the given file from the filesystem and determines the hands within each line of the file
+     * Reads the given file and writes the hands within it to standard output in the given format
+     * Binary hand files and the parallel mode are evaluated in memory mapped chunks, and text files otherwise a line at
+     * a time, parsing each line straight to card ids without building Card or Hand objects, so memory use does not
+     * grow with the size of the file
+     *
+     * @param fileName String text or binary hand file
+     * @param format OutputFormat to write results in
+     * @param parallel boolean whether to evaluate a text file in chunks across the pool
+     * @param threads int number of threads to evaluate on
+     * @param cache EvaluationCache to look hands up in, or null to evaluate every hand
+     * @param rejectsFileName String file to write bad lines to, or null to stop at the first bad line
+     * @param metrics PipelineMetrics to time each stage of a text file read a line at a time, or null
+     * @throws IOException when the file cannot be read or the output written
+     */
+    static void readTestsTxtFile(String fileName, OutputFormat format, boolean parallel, int threads,
+                                 EvaluationCache cache, String rejectsFileName, PipelineMetrics metrics)
+            throws IOException {
+        long start = System.nanoTime();
+        long count;
+
+        HandSink sink = HandSink.open(format, System.out);
+        RejectWriter rejects = rejectsFileName == null ? null : openRejects(rejectsFileName);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            if (isBinaryFile(fileName)) {
+                count = MappedHandFileEvaluator.evaluateBinary(Path.of(fileName), sink, pool, cache);
+            } else if (parallel) {
+                count = MappedHandFileEvaluator.evaluate(Path.of(fileName), sink, pool, cache, rejects);
+            } else {
+                try (BufferedReader fileBuffer = new BufferedReader(new FileReader(fileName, StandardCharsets.UTF_8))) {
+                    count = evaluateLines(fileBuffer, sink, rejects, metrics);
+                }
+            }
+            sink.finish();
+        } finally {
+            //a bad line fails the run, but every hand before it is still written
+            sink.flush();
+            pool.shutdown();
+            if (rejects != null) {
+                rejects.close();
+            }
+            if (metrics != null) {
+                metrics.report(System.err);
+            }
+        }
+
+        reportThroughput(count, System.nanoTime() - start);
+        if (rejects != null) {
+            System.err.printf("Rejected %,d lines to %s%n", rejects.count(), rejectsFileName);
+        }
+        reportCache(cache);
+    }
+
+    /**
+     * Opens a rejects file for writing, replacing any earlier one
      *
      * @param fileName String
-     * @throws FileNotFoundException when file given cannot be found
+     * @return RejectWriter
+     * @throws IOException when the file cannot be created
      */
-    static void readTestsTxtFile(String fileName) throws FileNotFoundException {
-        BufferedReader fileBuffer = new BufferedReader(new FileReader(fileName));
-        List<String> lines = fileBuffer.lines().toList();
+    static RejectWriter openRejects(String fileName) throws IOException {
+        return new RejectWriter(new BufferedOutputStream(Files.newOutputStream(Path.of(fileName)), OUTPUT_BUFFER_SIZE));
+    }
+
+    /**
+     * Memory maps the given file and determines the hands within it on a fork join pool of the given size
+     * Results are written in the original line order
+     *
+     * @param fileName String
+     * @param threads int number of threads to evaluate on
+     * @param cache EvaluationCache to look hands up in, or null to evaluate every hand
+     * @param rejectsFileName String file to write bad lines to, or null to stop at the first bad line
+     * @throws IOException when the file cannot be found or read
+     */
+    static void readTestsTxtFileInParallel(String fileName, int threads, EvaluationCache cache, String rejectsFileName)
+            throws IOException {
+        long start = System.nanoTime();
+        long count;
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        OutputStream output = new BufferedOutputStream(System.out, OUTPUT_BUFFER_SIZE);
+        RejectWriter rejects = rejectsFileName == null ? null : openRejects(rejectsFileName);
+        try {
+            count = MappedHandFileEvaluator.evaluate(Path.of(fileName), output, pool, cache, rejects);
+        } finally {
+            pool.shutdown();
+            if (rejects != null) {
+                rejects.close();
+            }
+        }
+
+        reportThroughput(count, System.nanoTime() - start);
+        if (rejects != null) {
+            System.err.printf("Rejected %,d lines to %s%n", rejects.count(), rejectsFileName);
+        }
+        reportCache(cache);
+    }
+
+    /**
+     * Memory maps the given binary hand file and determines the hands within it on a fork join pool of the given size
+     * Results are written in record order, in the same format as for a text hand file
+     *
+     * @param fileName String
+     * @param threads int number of threads to evaluate on
+     * @param cache EvaluationCache to look hands up in, or null to evaluate every hand
+     * @throws IOException when the file cannot be read or is not a valid binary hand file
+     */
+    static void readBinaryFile(String fileName, int threads, EvaluationCache cache) throws IOException {
+        long start = System.nanoTime();
+        long count;
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        OutputStream output = new BufferedOutputStream(System.out, OUTPUT_BUFFER_SIZE);
+        try {
+            count = MappedHandFileEvaluator.evaluateBinary(Path.of(fileName), output, pool, cache);
+        } finally {
+            pool.shutdown();
+        }
+        reportThroughput(count, System.nanoTime() - start);
+        reportCache(cache);
+    }
+
+    /**
+     * Memory maps the given file of showdowns and finds the winning seats of each line on a fork join pool of the given
+     * size, printing each line and its winners in line order and then the wins and splits of each seat
+     *
+     * @param fileName String
+     * @param threads int number of threads to evaluate on
+     * @param rejectsFileName String file to write bad lines to, or null to stop at the first bad line
+     * @throws IOException when the file cannot be read
+     */
+    static void readShowdownFile(String fileName, int threads, String rejectsFileName) throws IOException {
+        long start = System.nanoTime();
+        ShowdownTally tally;
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        OutputStream output = new BufferedOutputStream(System.out, OUTPUT_BUFFER_SIZE);
+        RejectWriter rejects = rejectsFileName == null ? null : openRejects(rejectsFileName);
+        try {
+            tally = ShowdownFileEvaluator.evaluate(Path.of(fileName), output, pool, rejects);
+        } finally {
+            pool.shutdown();
+            if (rejects != null) {
+                rejects.close();
+            }
+        }
 
-        //read each line from file and make a card
-        for(String hand: lines) {
-            Hand cards = HandFactory.MakeHandFromString(hand.trim());
-            System.out.println(cards + " => " + cards.handName());
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        System.err.printf("Evaluated %,d showdowns in %.3f s (%,.0f showdowns/sec), %,d split%n", tally.showdowns(),
+                seconds, seconds > 0 ? tally.showdowns() / seconds : 0.0, tally.ties());
+        for (int seat = 1; seat <= tally.seats(); seat++) {
+            System.err.printf("Seat %d\t%,d wins\t%,d splits%n", seat, tally.wins(seat), tally.splits(seat));
+        }
+        if (rejects != null) {
+            System.err.printf("Rejected %,d lines to %s%n", rejects.count(), rejectsFileName);
+        }
+    }
+
+    /**
+     * Converts a text hand file into a binary hand file, printing the number of hands written and the time taken
+     *
+     * @param textFileName String text hand file to read
+     * @param binaryFileName String binary hand file to write
+     * @param rejectsFileName String file to write bad lines to, or null to stop at the first bad line
+     * @throws IOException when either file cannot be read or written
+     */
+    static void convertToBinary(String textFileName, String binaryFileName, String rejectsFileName) throws IOException {
+        long start = System.nanoTime();
+        long count;
+        RejectWriter rejects = rejectsFileName == null ? null : openRejects(rejectsFileName);
+        try {
+            count = BinaryHandWriter.convert(Path.of(textFileName), Path.of(binaryFileName), rejects);
+        } finally {
+            if (rejects != null) {
+                rejects.close();
+            }
+        }
+
+        System.out.printf("Converted %,d hands to %s in %.3f s%n", count, binaryFileName,
+                (System.nanoTime() - start) / 1_000_000_000.0);
+        if (rejects != null) {
+            System.err.printf("Rejected %,d lines to %s%n", rejects.count(), rejectsFileName);
+        }
+    }
+
+    /**
+     * Utility method
+     * Checks whether a file exists and is a binary hand file, so a missing file still fails as a text file would
+     */
+    private static boolean isBinaryFile(String fileName) throws IOException {
+        Path file = Path.of(fileName);
+        return Files.isRegularFile(file) && BinaryHandFormat.isBinary(file);
+    }
+
+    /**
+     * Evaluates every file named by the patterns, each into its own output file, and prints a summary of the batch
+     * Files are read and written on virtual threads where the runtime has them, and evaluated on a pool of the given
+     * size
+     *
+     * @param patterns List of files, directories or globs
+     * @param outputDirectory Path to write output files to, or null to write each beside its input
+     * @param threads int number of threads to evaluate on
+     * @return long number of files that failed
+     * @throws IOException when a directory cannot be listed
+     */
+    static long evaluateBatch(List<String> patterns, Path outputDirectory, int threads) throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (String pattern : patterns) {
+            files.addAll(BatchFileEvaluator.findFiles(pattern));
+        }
+        if (outputDirectory != null) {
+            Files.createDirectories(outputDirectory);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        ExecutorService io = IoExecutors.newIoExecutor();
+        BatchSummary summary;
+        try {
+            summary = BatchFileEvaluator.evaluate(files, outputDirectory, pool, io);
+        } finally {
+            io.shutdown();
+            pool.shutdown();
+        }
+
+        for (BatchSummary.FileResult result : summary.results()) {
+            if (result.failed()) {
+                System.out.printf("%s => FAILED: %s%n", result.input(), result.error());
+            }
+        }
+        double seconds = summary.elapsedNanos() / 1_000_000_000.0;
+        System.out.printf("Evaluated %,d hands from %,d files (%,d failed) in %.3f s (%,.0f hands/sec)%n",
+                summary.hands(), files.size(), summary.failed(), seconds, seconds > 0 ? summary.hands() / seconds : 0.0);
+        return summary.failed();
+    }
+
+    /**
+     * Runs the evaluation server until the JVM is stopped
+     *
+     * @param options Map of options, reading port, max-batch and max-wait-micros
+     * @throws IOException when the port cannot be bound
+     */
+    static void serve(Map<String, String> options) throws IOException {
+        int port = Integer.parseInt(options.getOrDefault("port", String.valueOf(DEFAULT_PORT)));
+        int maxBatch = Integer.parseInt(options.getOrDefault("max-batch", String.valueOf(DEFAULT_MAX_BATCH)));
+        long maxWaitMicros = Long.parseLong(options.getOrDefault("max-wait-micros", String.valueOf(DEFAULT_MAX_WAIT_MICROS)));
+
+        EvaluationServer server = EvaluationServer.start(port, maxBatch, maxWaitMicros * 1_000);
+        CountDownLatch stopped = new CountDownLatch(1);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.close();
+            stopped.countDown();
+        }));
+        System.err.printf("Listening on http://127.0.0.1:%d/evaluate%n", server.port());
+
+        try {
+            stopped.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Estimates the equity of each player's hole cards and prints their win, tie and loss percentages
+     *
+     * @param players List of each player's coded hole cards ("AS KS")
+     * @param options Map of options, reading board, trials and threads
+     */
+    static void calculateEquity(List<String> players, Map<String, String> options) {
+        Card[][] holeCards = new Card[players.size()][];
+        for (int i = 0; i < holeCards.length; i++) {
+            holeCards[i] = HandFactory.MakeCardsFromString(players.get(i));
+        }
+        Card[] board = HandFactory.MakeCardsFromString(options.getOrDefault("board", ""));
+        long trials = Long.parseLong(options.getOrDefault("trials", String.valueOf(DEFAULT_TRIALS)));
+
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(getThreads(options));
+        EquityResult result;
+        try {
+            result = EquityCalculator.calculate(holeCards, board, trials, pool);
+        } finally {
+            pool.shutdown();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        for (int i = 0; i < holeCards.length; i++) {
+            System.out.printf("%s => win %.2f%% tie %.2f%% loss %.2f%%%n", players.get(i).trim(),
+                    result.winPercent(i), result.tiePercent(i), result.lossPercent(i));
+        }
+        double seconds = elapsed / 1_000_000_000.0;
+        System.err.printf("Ran %,d trials in %.3f s (%,.0f trials/sec)%n", trials, seconds,
+                seconds > 0 ? trials / seconds : 0.0);
+    }
+
+    /**
+     * Evaluates every five card hand, printing the count of each category against its known count and the rate
+     *
+     * @param threads int number of threads to enumerate on
+     * @param verify boolean whether to also check every hand against the Hand predicates
+     * @return boolean true when every count matched, and every hand when verifying
+     */
+    static boolean enumerateAllHands(int threads, boolean verify) {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            long start = System.nanoTime();
+            long[] counts = HandEnumerator.countCategories(pool);
+            long elapsed = System.nanoTime() - start;
+
+            boolean matched = true;
+            System.out.printf("%-16s %10s %10s%n", "Category", "Count", "Expected");
+            for (HandCategory category : HandCategory.values()) {
+                long expected = HandEnumerator.expectedCount(category);
+                matched &= counts[category.ordinal()] == expected;
+                System.out.printf("%-16s %10d %10d%s%n", category, counts[category.ordinal()], expected,
+                        counts[category.ordinal()] == expected ? "" : " MISMATCH");
+            }
+            double seconds = elapsed / 1_000_000_000.0;
+            System.out.printf("Enumerated %,d hands in %.3f s (%,.0f hands/sec)%n",
+                    HandEnumerator.HAND_COUNT, seconds, HandEnumerator.HAND_COUNT / seconds);
+
+            if (verify) {
+                start = System.nanoTime();
+                long mismatches = HandEnumerator.countMismatches(pool);
+                seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+                System.out.printf("Verified %,d hands against the Hand predicates in %.3f s: %,d mismatches%n",
+                        HandEnumerator.HAND_COUNT, seconds, mismatches);
+                matched &= mismatches == 0;
+            }
+            return matched;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Generates a strength table file, then maps it and checks its checksum, printing the time taken by each
+     *
+     * @param file Path of the table file to write
+     * @param cards int cards per hand, within the ranking's range
+     * @param ranking HandRanking to rank hands by
+     * @throws IOException when the file cannot be written, or does not verify
+     */
+    static void buildTable(Path file, int cards, HandRanking ranking) throws IOException {
+        long start = System.nanoTime();
+        MappedStrengthTable.generate(file, cards, ranking);
+        double generated = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        start = System.nanoTime();
+        MappedStrengthTable table = MappedStrengthTable.map(file, cards, ranking);
+        double mapped = (System.nanoTime() - start) / 1_000_000_000.0;
+        if (!table.verify()) {
+            throw new IOException("Table File Checksum Mismatch");
+        }
+        System.out.printf("Generated %s for %d card %s hands in %.3f s, mapped in %.6f s%n", file, cards,
+                ranking.name().toLowerCase().replace('_', '-'), generated, mapped);
+    }
+
+    /**
+     * Reads each line from the reader, determines the strength of the hand and writes it to the sink
+     * Blank lines are skipped, and lines that are not valid hands fail the run or are written to the rejects
+     * When timing, a line that is not a valid hand is counted as an error of the stage that rejected it, parsing for
+     * a bad card and construction for the wrong number of cards or a duplicate card
+     *
+     * @param input BufferedReader of coded hands, one per line
+     * @param sink HandSink to write each hand and its strength to, which is not finished
+     * @param rejects RejectWriter to write bad lines to, or null to fail on the first bad line
+     * @param metrics PipelineMetrics to record each stage into, or null to run without timing
+     * @return long number of hands evaluated
+     * @throws IOException when the input cannot be read or the output or rejects written
+     */
+    static long evaluateLines(BufferedReader input, HandSink sink, RejectWriter rejects, PipelineMetrics metrics)
+            throws IOException {
+        StageMetrics read = metrics == null ? null : metrics.stage(PipelineStage.FILE_READ);
+        StageMetrics parse = metrics == null ? null : metrics.stage(PipelineStage.PARSE);
+        StageMetrics construct = metrics == null ? null : metrics.stage(PipelineStage.CONSTRUCT);
+        StageMetrics evaluate = metrics == null ? null : metrics.stage(PipelineStage.EVALUATE);
+        StageMetrics format = metrics == null ? null : metrics.stage(PipelineStage.FORMAT);
+        long count = 0;
+        long lineNumber = 0;
+        int[] ids = new int[HandParser.HAND_SIZE];
+
+        while (true) {
+            //each stage starts from the time the one before it ended
+            long time = metrics == null ? 0L : System.nanoTime();
+            String line;
+            try {
+                line = input.readLine();
+            } catch (IOException ex) {
+                error(read);
+                throw ex;
+            }
+            if (line == null) {
+                //reaching the end of the file is not a read of a line
+                break;
+            }
+            time = record(read, time);
+            lineNumber++;
+
+            ParseStatus status = HandParser.tryParseLine(line, ids);
+            if (status.isError()) {
+                boolean badCard = status == ParseStatus.INVALID_CARD_CODE || status == ParseStatus.INVALID_CARD;
+                error(badCard ? parse : construct);
+                if (rejects == null) {
+                    throw new IllegalArgumentException("Line " + lineNumber + ": " + status.message());
+                }
+                rejects.reject(lineNumber, status, line);
+                continue;
+            }
+            if (status == ParseStatus.BLANK) {
+                continue;
+            }
+            time = record(parse, time);
+
+            long mask = HandParser.toMask(ids, HandParser.HAND_SIZE);
+            time = record(construct, time);
+
+            int strength = HandEvaluator.strength(mask);
+            time = record(evaluate, time);
+
+            try {
+                sink.write(ids, strength);
+            } catch (IOException ex) {
+                error(format);
+                throw ex;
+            }
+            record(format, time);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Utility method
+     * Records the time of a stage since it started, when timing
+     *
+     * @return long time the stage ended, to start the next from
+     */
+    private static long record(StageMetrics stage, long startNanos) {
+        return stage == null ? 0L : stage.record(startNanos);
+    }
+
+    /**
+     * Utility method
+     * Counts an error of a stage, when timing
+     */
+    private static void error(StageMetrics stage) {
+        if (stage != null) {
+            stage.error();
+        }
+    }
+
+    /**
+     * Reports the number of hands evaluated and the rate, on standard error so it stays apart from the results
+     *
+     * @param count long number of hands evaluated
+     * @param elapsedNanos long time taken
+     */
+    static void reportThroughput(long count, long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        System.err.printf("Evaluated %,d hands in %.3f s (%,.0f hands/sec)%n",
+                count, seconds, seconds > 0 ? count / seconds : 0.0);
+    }
+
+    /**
+     * Reports the hits, misses and hit rate of the evaluation cache, on standard error, when one was used
+     *
+     * @param cache EvaluationCache used, or null
+     */
+    static void reportCache(EvaluationCache cache) {
+        if (cache != null) {
+            System.err.printf("Cache of %,d entries: %,d hits, %,d misses (%.1f%% hit rate)%n",
+                    cache.capacity(), cache.hits(), cache.misses(), cache.hitRate() * 100);
         }
     }
 }
@@ -0,0 +1,117 @@
+package entities;
+
+/**
+ * This class represents a batch evaluator, and contains functionality to evaluate many hands at once into primitive
+ * arrays of categories and strengths, without creating a Hand for each input
+ *
+ * Inputs are either card masks as encoded by the CardCodec, or blocks of coded hand lines ("3D 4S...") separated by
+ * newlines, where blank lines are skipped. Results are written in input order from index 0 of the output arrays
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public final class BatchEvaluator {
+
+    private BatchEvaluator() {
+    }
+
+    /**
+     * Evaluates a batch of five card masks
+     *
+     * @param masks long[] card masks
+     * @param count int number of masks to evaluate, from index 0
+     * @param categories byte[] to write the category of each hand into
+     * @param strengths int[] to write the strength of each hand into
+     * @throws IllegalArgumentException when a mask is not five cards of the deck, before any result is written
+     */
+    public static void evaluate(long[] masks, int count, byte[] categories, int[] strengths) {
+        checkCapacity(count, categories, strengths);
+        for (int i = 0; i < count; i++) {
+            if (Long.bitCount(masks[i]) != HandParser.HAND_SIZE || (masks[i] & ~CardCodec.FULL_DECK) != 0) {
+                throw new IllegalArgumentException("Invalid Hand Mask " + i);
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            int strength = HandEvaluator.strength(masks[i]);
+            strengths[i] = strength;
+            categories[i] = (byte) HandEvaluator.categoryOf(strength);
+        }
+    }
+
+    /**
+     * Evaluates a block of coded hand lines held as bytes
+     *
+     * @param block byte[] holding the lines
+     * @param from int index of the first byte of the block
+     * @param to int index just past the last byte of the block
+     * @param categories byte[] to write the category of each hand into
+     * @param strengths int[] to write the strength of each hand into
+     * @return int number of hands evaluated
+     */
+    public static int evaluate(byte[] block, int from, int to, byte[] categories, int[] strengths) {
+        int[] ids = new int[HandParser.HAND_SIZE];
+        int hands = 0;
+        int lineStart = from;
+        while (lineStart < to) {
+            int lineEnd = lineStart;
+            while (lineEnd < to && block[lineEnd] != '\n') {
+                lineEnd++;
+            }
+            if (HandParser.parseLine(block, lineStart, lineEnd, ids) > 0) {
+                hands = store(HandParser.toMask(ids, HandParser.HAND_SIZE), hands, categories, strengths);
+            }
+            lineStart = lineEnd + 1;
+        }
+        return hands;
+    }
+
+    /**
+     * Evaluates a block of coded hand lines held as chars
+     *
+     * @param block CharSequence holding the lines
+     * @param categories byte[] to write the category of each hand into
+     * @param strengths int[] to write the strength of each hand into
+     * @return int number of hands evaluated
+     */
+    public static int evaluate(CharSequence block, byte[] categories, int[] strengths) {
+        int[] ids = new int[HandParser.HAND_SIZE];
+        int hands = 0;
+        int to = block.length();
+        int lineStart = 0;
+        while (lineStart < to) {
+            int lineEnd = lineStart;
+            while (lineEnd < to && block.charAt(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            if (HandParser.parseLine(block, lineStart, lineEnd, ids) > 0) {
+                hands = store(HandParser.toMask(ids, HandParser.HAND_SIZE), hands, categories, strengths);
+            }
+            lineStart = lineEnd + 1;
+        }
+        return hands;
+    }
+
+    /**
+     * Utility method
+     * Evaluates one hand into the next index of the output arrays
+     *
+     * @return int number of hands stored so far
+     */
+    private static int store(long mask, int index, byte[] categories, int[] strengths) {
+        checkCapacity(index + 1, categories, strengths);
+        int strength = HandEvaluator.strength(mask);
+        strengths[index] = strength;
+        categories[index] = (byte) HandEvaluator.categoryOf(strength);
+        return index + 1;
+    }
+
+    /**
+     * Utility method
+     * Checks both output arrays can hold the given number of results
+     */
+    private static void checkCapacity(int count, byte[] categories, int[] strengths) {
+        if (count > categories.length || count > strengths.length) {
+            throw new IllegalArgumentException("Batch exceeds output capacity");
+        }
+    }
+}
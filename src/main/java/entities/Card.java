@@ -3,8 +3,7 @@ package entities;
 import enums.Rank;
 import enums.Suit;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 /**
  * This record represents a card, and contains functionality to create a card and definitions of what makes up a card (suit and rank)
@@ -14,58 +13,55 @@ import java.util.Map;
  */
 public record Card(Rank rank, Suit suit) {
 
-    /**
-     * Build map of character code to suit
-     *
-     * @return Map<Character, Suit> suitMap
-     */
-    private static Map<Character, Suit> getSuitMap() {
-        return Map.of(
-                'C', Suit.CLUB,
-                'D', Suit.DIAMOND,
-                'H', Suit.HEART,
-                'S', Suit.SPADE
-        );
+    //char indexed lookups of rank and suit ordinals, -1 where the char is not a valid code
+    private static final byte[] RANK_CODES = new byte[128];
+    private static final byte[] SUIT_CODES = new byte[128];
+
+    static {
+        Arrays.fill(RANK_CODES, (byte) -1);
+        Arrays.fill(SUIT_CODES, (byte) -1);
+        for (Rank rank : Rank.values()) {
+            RANK_CODES[rank.toString().charAt(0)] = (byte) rank.ordinal();
+        }
+        for (Suit suit : Suit.values()) {
+            SUIT_CODES[suit.toString().charAt(0)] = (byte) suit.ordinal();
+        }
     }
 
     /**
-     * Build map of character code to rank
+     * Helper method to allow for easy creation of a card
+     * Cards are shared instances from the CardCodec, so no card is allocated per call
      *
-     * @return Map<Character, Rank> rankMap
+     * @param rank char
+     * @param suit char
+     * @return Card
      */
-    private static Map<Character, Rank> getRankMap() {
-        Map<Character, Rank> rankMap = new HashMap<>();
-        rankMap.put('A', Rank.ACE);
-        rankMap.put('2', Rank.TWO);
-        rankMap.put('3', Rank.THREE);
-        rankMap.put('4', Rank.FOUR);
-        rankMap.put('5', Rank.FIVE);
-        rankMap.put('6', Rank.SIX);
-        rankMap.put('7', Rank.SEVEN);
-        rankMap.put('8', Rank.EIGHT);
-        rankMap.put('9', Rank.NINE);
-        rankMap.put('T', Rank.TEN);
-        rankMap.put('J', Rank.JACK);
-        rankMap.put('Q', Rank.QUEEN);
-        rankMap.put('K', Rank.KING);
+    public static Card CreateCard(char rank, char suit) {
+        int id = CreateCardId(rank, suit);
 
-        return rankMap;
+        if(id < 0) {
+            throw new IllegalArgumentException("Invalid Card");
+        }
+        return CardCodec.card(id);
     }
 
     /**
-     * Helper method to allow for easy creation of a card
+     * Helper method to get the card id of a coded card without creating a card or throwing
      *
      * @param rank char
      * @param suit char
-     * @return Card
+     * @return int card id as encoded by the CardCodec, or -1 when the code is not a valid card
      */
-    public static Card CreateCard(char rank, char suit) {
-        Rank cardRank = getRankMap().get(rank);
-        Suit cardSuit = getSuitMap().get(suit);
+    public static int CreateCardId(char rank, char suit) {
+        if(rank >= 128 || suit >= 128) {
+            return -1;
+        }
+        int cardRank = RANK_CODES[rank];
+        int cardSuit = SUIT_CODES[suit];
 
-        if(cardRank == null || cardSuit == null) {
-            throw new IllegalArgumentException("Invalid Card");
+        if(cardRank < 0 || cardSuit < 0) {
+            return -1;
         }
-        return new Card(cardRank, cardSuit);
+        return cardSuit * CardCodec.RANK_COUNT + cardRank;
     }
 }
@@ -0,0 +1,190 @@
+package entities;
+
+import enums.Rank;
+import enums.Suit;
+
+/**
+ * This class represents the primitive encoding of cards, and contains functionality to convert between a Card and
+ * its id (0 to 51), and between sets of cards and a long bitmask with one bit per card
+ *
+ * A card id is suit ordinal * 13 + rank ordinal, so each suit occupies 13 consecutive bits of a mask
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public final class CardCodec {
+    public static final int RANK_COUNT = 13;
+    public static final int SUIT_COUNT = 4;
+    public static final int CARD_COUNT = RANK_COUNT * SUIT_COUNT;
+
+    public static final long FULL_DECK = (1L << CARD_COUNT) - 1;
+
+    private static final Rank[] RANKS = Rank.values();
+    private static final Suit[] SUITS = Suit.values();
+
+    //one shared instance of each card, indexed by id
+    private static final Card[] DECK = new Card[CARD_COUNT];
+
+    static {
+        for (int id = 0; id < CARD_COUNT; id++) {
+            DECK[id] = new Card(rank(id), suit(id));
+        }
+    }
+
+    private CardCodec() {
+    }
+
+    /**
+     * Gets the id of a card from its rank and suit
+     *
+     * @param rank Rank
+     * @param suit Suit
+     * @return int id between 0 and 51
+     */
+    public static int id(Rank rank, Suit suit) {
+        return suit.ordinal() * RANK_COUNT + rank.ordinal();
+    }
+
+    /**
+     * Gets the id of a card
+     *
+     * @param card Card
+     * @return int id between 0 and 51
+     */
+    public static int id(Card card) {
+        return id(card.rank(), card.suit());
+    }
+
+    /**
+     * Gets the rank ordinal of a card id
+     *
+     * @param id int card id
+     * @return int rank ordinal
+     */
+    public static int rankOrdinal(int id) {
+        return id % RANK_COUNT;
+    }
+
+    /**
+     * Gets the suit ordinal of a card id
+     *
+     * @param id int card id
+     * @return int suit ordinal
+     */
+    public static int suitOrdinal(int id) {
+        return id / RANK_COUNT;
+    }
+
+    /**
+     * Gets the rank of a card id
+     *
+     * @param id int card id
+     * @return Rank
+     */
+    public static Rank rank(int id) {
+        return RANKS[rankOrdinal(id)];
+    }
+
+    /**
+     * Gets the suit of a card id
+     *
+     * @param id int card id
+     * @return Suit
+     */
+    public static Suit suit(int id) {
+        return SUITS[suitOrdinal(id)];
+    }
+
+    /**
+     * Gets the shared card instance of a card id
+     *
+     * @param id int card id
+     * @return Card
+     */
+    public static Card card(int id) {
+        if (id < 0 || id >= CARD_COUNT) {
+            throw new IllegalArgumentException("Invalid Card Id");
+        }
+        return DECK[id];
+    }
+
+    /**
+     * Gets the single bit mask of a card id
+     *
+     * @param id int card id
+     * @return long mask
+     */
+    public static long bit(int id) {
+        return 1L << id;
+    }
+
+    /**
+     * Builds the mask of a collection of cards (varargs)
+     * Duplicate cards share a bit, so callers can compare Long.bitCount against the number of cards given
+     *
+     * @param cards array of Card
+     * @return long mask
+     */
+    public static long mask(Card... cards) {
+        long mask = 0L;
+        for (Card card : cards) {
+            mask |= bit(id(card));
+        }
+        return mask;
+    }
+
+    /**
+     * Builds the mask of an array of card ids
+     *
+     * @param ids array of int card ids
+     * @return long mask
+     */
+    public static long mask(int... ids) {
+        long mask = 0L;
+        for (int id : ids) {
+            mask |= bit(id);
+        }
+        return mask;
+    }
+
+    /**
+     * Gets the card ids set in a mask, in ascending order
+     *
+     * @param mask long mask
+     * @return int[] card ids
+     */
+    public static int[] ids(long mask) {
+        int[] ids = new int[Long.bitCount(mask)];
+        for (int i = 0; mask != 0; i++) {
+            ids[i] = Long.numberOfTrailingZeros(mask);
+            mask &= mask - 1;
+        }
+        return ids;
+    }
+
+    /**
+     * Gets the cards set in a mask, in ascending id order
+     *
+     * @param mask long mask
+     * @return Card[] cards
+     */
+    public static Card[] cards(long mask) {
+        int[] ids = ids(mask & FULL_DECK);
+        Card[] cards = new Card[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            cards[i] = card(ids[i]);
+        }
+        return cards;
+    }
+
+    /**
+     * Gets the 13 bit rank mask held in one suit of a mask
+     *
+     * @param mask long mask
+     * @param suitOrdinal int suit ordinal
+     * @return int rank mask
+     */
+    public static int suitRanks(long mask, int suitOrdinal) {
+        return (int) (mask >>> (suitOrdinal * RANK_COUNT)) & ((1 << RANK_COUNT) - 1);
+    }
+}
@@ -0,0 +1,191 @@
+package entities;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * This class represents a Monte Carlo equity calculator for hold'em, and contains functionality to estimate how often
+ * each player wins, ties or loses by dealing out the rest of the board at random many times
+ *
+ * Trials are split across a fork join pool, each task drawing from its own random generator and counting into its
+ * own counters, which are merged as the tasks join. Hands are evaluated on card masks by the SevenCardEvaluator
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public final class EquityCalculator {
+    public static final int HOLE_CARDS = 2;
+    public static final int BOARD_SIZE = 5;
+    //most players whose hole cards and a full board can be dealt from one deck
+    public static final int MAX_PLAYERS = (CardCodec.CARD_COUNT - BOARD_SIZE) / HOLE_CARDS;
+
+    //fewest trials a task runs before it stops splitting
+    private static final long MIN_TRIALS_PER_TASK = 10_000;
+
+    private EquityCalculator() {
+    }
+
+    /**
+     * Estimates the equity of each player from a random seed
+     *
+     * @param players Card[][] hole cards of each player, two each
+     * @param board Card[] cards already dealt to the board, up to five
+     * @param trials long number of boards to deal
+     * @param pool ForkJoinPool to run the trials on
+     * @return EquityResult wins, ties and losses of each player
+     */
+    public static EquityResult calculate(Card[][] players, Card[] board, long trials, ForkJoinPool pool) {
+        return calculate(players, board, trials, pool, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Estimates the equity of each player, repeatably for a given seed and pool size
+     *
+     * @param players Card[][] hole cards of each player, two each
+     * @param board Card[] cards already dealt to the board, up to five
+     * @param trials long number of boards to deal
+     * @param pool ForkJoinPool to run the trials on
+     * @param seed long seed of the random generators
+     * @return EquityResult wins, ties and losses of each player
+     */
+    public static EquityResult calculate(Card[][] players, Card[] board, long trials, ForkJoinPool pool, long seed) {
+        if (players.length < 2) {
+            throw new IllegalArgumentException("Equity needs at least 2 players");
+        }
+        if (players.length > MAX_PLAYERS) {
+            throw new IllegalArgumentException(tooManyPlayers(players.length));
+        }
+        if (trials <= 0) {
+            throw new IllegalArgumentException("Equity needs at least 1 trial");
+        }
+        if (board.length > BOARD_SIZE) {
+            throw new IllegalArgumentException("A board must contain at most " + BOARD_SIZE + " cards");
+        }
+
+        long[] holeMasks = new long[players.length];
+        long dealt = CardCodec.mask(board);
+        int cardCount = board.length;
+        for (int i = 0; i < players.length; i++) {
+            if (players[i].length != HOLE_CARDS) {
+                throw new IllegalArgumentException("A player must hold " + HOLE_CARDS + " cards");
+            }
+            holeMasks[i] = CardCodec.mask(players[i]);
+            dealt |= holeMasks[i];
+            cardCount += HOLE_CARDS;
+        }
+        if (Long.bitCount(dealt) != cardCount) {
+            throw new IllegalArgumentException("Duplicate Card In Hand");
+        }
+
+        Deal deal = new Deal(holeMasks, CardCodec.mask(board), CardCodec.ids(CardCodec.FULL_DECK & ~dealt),
+                BOARD_SIZE - board.length);
+        long minTrials = Math.max(MIN_TRIALS_PER_TASK, trials / (pool.getParallelism() * 8L));
+        long[] counts = pool.invoke(new TrialTask(deal, trials, minTrials, new SplittableRandom(seed)));
+
+        long[] wins = new long[players.length];
+        long[] ties = new long[players.length];
+        System.arraycopy(counts, 0, wins, 0, players.length);
+        System.arraycopy(counts, players.length, ties, 0, players.length);
+        return new EquityResult(trials, wins, ties);
+    }
+
+    /**
+     * Describes why a deck cannot be dealt to the given number of players
+     *
+     * @param players int number of players, more than MAX_PLAYERS
+     * @return String message
+     */
+    public static String tooManyPlayers(int players) {
+        return "Equity needs at most " + MAX_PLAYERS + " players, as " + players + " players need "
+                + (players * HOLE_CARDS + BOARD_SIZE) + " cards with the board from a deck of " + CardCodec.CARD_COUNT;
+    }
+
+    /**
+     * Runs trials for a deal, counting wins into the first half of counts and ties into the second
+     *
+     * @param deal Deal to complete
+     * @param trials long number of boards to deal
+     * @param random SplittableRandom owned by the calling task
+     * @return long[] wins then ties of each player
+     */
+    static long[] runTrials(Deal deal, long trials, SplittableRandom random) {
+        int players = deal.holeMasks.length;
+        long[] counts = new long[players * 2];
+        int[] strengths = new int[players];
+        int[] deck = deal.deck.clone();
+
+        for (long trial = 0; trial < trials; trial++) {
+            //draw the missing board cards with a partial shuffle of the remaining deck
+            long board = deal.board;
+            for (int i = 0; i < deal.missing; i++) {
+                int j = i + random.nextInt(deck.length - i);
+                int card = deck[j];
+                deck[j] = deck[i];
+                deck[i] = card;
+                board |= 1L << card;
+            }
+
+            int best = -1;
+            int bestCount = 0;
+            for (int p = 0; p < players; p++) {
+                int strength = SevenCardEvaluator.strength(deal.holeMasks[p] | board);
+                strengths[p] = strength;
+                if (strength > best) {
+                    best = strength;
+                    bestCount = 1;
+                } else if (strength == best) {
+                    bestCount++;
+                }
+            }
+            int offset = bestCount == 1 ? 0 : players;
+            for (int p = 0; p < players; p++) {
+                if (strengths[p] == best) {
+                    counts[offset + p]++;
+                }
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * This record represents the fixed part of every trial: hole cards, the known board and the cards left to draw
+     */
+    record Deal(long[] holeMasks, long board, int[] deck, int missing) {
+    }
+
+    /**
+     * This class represents a share of the trials, which splits in half until it is small enough to run
+     */
+    private static final class TrialTask extends RecursiveTask<long[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final Deal deal;
+        private final long trials;
+        private final long minTrials;
+        private final SplittableRandom random;
+
+        TrialTask(Deal deal, long trials, long minTrials, SplittableRandom random) {
+            this.deal = deal;
+            this.trials = trials;
+            this.minTrials = minTrials;
+            this.random = random;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (trials <= minTrials) {
+                return runTrials(deal, trials, random);
+            }
+            long half = trials / 2;
+            TrialTask left = new TrialTask(deal, half, minTrials, random.split());
+            left.fork();
+            long[] counts = new TrialTask(deal, trials - half, minTrials, random).compute();
+            long[] leftCounts = left.join();
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += leftCounts[i];
+            }
+            return counts;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package entities;
+
+/**
+ * This record represents the outcome of an equity calculation, holding how often each player won outright, tied for
+ * the best hand, or lost over the trials run
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public record EquityResult(long trials, long[] wins, long[] ties) {
+
+    /**
+     * Gets the number of players
+     *
+     * @return int players
+     */
+    public int players() {
+        return wins.length;
+    }
+
+    /**
+     * Gets the number of trials a player lost
+     *
+     * @param player int index of the player
+     * @return long losses
+     */
+    public long losses(int player) {
+        return trials - wins[player] - ties[player];
+    }
+
+    /**
+     * Gets the percentage of trials a player won outright
+     *
+     * @param player int index of the player
+     * @return double percentage
+     */
+    public double winPercent(int player) {
+        return percent(wins[player]);
+    }
+
+    /**
+     * Gets the percentage of trials a player tied for the best hand
+     *
+     * @param player int index of the player
+     * @return double percentage
+     */
+    public double tiePercent(int player) {
+        return percent(ties[player]);
+    }
+
+    /**
+     * Gets the percentage of trials a player lost
+     *
+     * @param player int index of the player
+     * @return double percentage
+     */
+    public double lossPercent(int player) {
+        return percent(losses(player));
+    }
+
+    private double percent(long count) {
+        return trials == 0 ? 0.0 : count * 100.0 / trials;
+    }
+}
@@ -0,0 +1,275 @@
+package entities;
+
+import enums.EvictionPolicy;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongToIntFunction;
+
+/**
+ * This class represents a bounded cache of hand strengths in front of an evaluator, and contains functionality to
+ * look up the strength of a card mask, evaluating and storing it on a miss
+ *
+ * Entries live in primitive arrays, grouped into buckets of WAYS slots chosen by a hash of the mask, and a full bucket
+ * replaces an entry by its EvictionPolicy. Each bucket has a stamp that is odd while a writer holds it, so writers
+ * to a bucket are serialized while readers take no lock: a reader retries as a miss if the stamp was odd or changed
+ * while it read the entry, and so never sees a key with another key's strength
+ *
+ * With canonical keys, masks are looked up by their SuitCanonicalizer form, so every suit relabelling of a hand
+ * shares one entry
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public final class EvaluationCache {
+    public static final int WAYS = 4;
+    public static final int MISSING = -1;
+    //the largest power of two an array can hold
+    public static final int MAX_CAPACITY = 1 << 30;
+
+    //no card mask sets the top bit, so this can never be a key
+    private static final long EMPTY = -1L;
+
+    private static final VarHandle STAMPS = MethodHandles.arrayElementVarHandle(int[].class);
+
+    private final long[] keys;
+    private final int[] values;
+    private final int[] stamps;
+    private final int[] lastUsed;
+    private final byte[] referenced;
+    private final byte[] hands;
+    private final int bucketMask;
+    private final EvictionPolicy policy;
+    private final boolean canonicalKeys;
+    private final LongToIntFunction evaluator;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    //advanced without synchronization, so LRU order is approximate under contention
+    private int tick;
+
+    /**
+     * Method accepts the number of entries, an eviction policy, whether to key by canonical suits and the evaluator
+     * to call on a miss
+     *
+     * @param capacity int number of entries, at most MAX_CAPACITY, rounded up to a power of two of at least WAYS
+     * @param policy EvictionPolicy for full buckets
+     * @param canonicalKeys boolean whether to key entries by their canonical suits
+     * @param evaluator LongToIntFunction giving the strength of a mask, which must not depend on suit labels when
+     *                  canonical keys are used
+     */
+    public EvaluationCache(int capacity, EvictionPolicy policy, boolean canonicalKeys, LongToIntFunction evaluator) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Cache capacity must be positive");
+        }
+        if (capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Cache capacity must be at most " + MAX_CAPACITY);
+        }
+        int slots = Math.max(WAYS, Integer.highestOneBit(capacity - 1) << 1);
+        int buckets = slots / WAYS;
+        this.keys = new long[slots];
+        this.values = new int[slots];
+        this.stamps = new int[buckets];
+        this.lastUsed = policy == EvictionPolicy.LRU ? new int[slots] : null;
+        this.referenced = policy == EvictionPolicy.CLOCK ? new byte[slots] : null;
+        this.hands = policy == EvictionPolicy.CLOCK ? new byte[buckets] : null;
+        this.bucketMask = buckets - 1;
+        this.policy = policy;
+        this.canonicalKeys = canonicalKeys;
+        this.evaluator = evaluator;
+        Arrays.fill(keys, EMPTY);
+    }
+
+    /**
+     * Method accepts the number of entries and an eviction policy, caching the SevenCardEvaluator, which takes hands
+     * of five to seven cards, by canonical suits
+     *
+     * @param capacity int number of entries, rounded up to a power of two of at least WAYS
+     * @param policy EvictionPolicy for full buckets
+     */
+    public EvaluationCache(int capacity, EvictionPolicy policy) {
+        this(capacity, policy, true, SevenCardEvaluator::strength);
+    }
+
+    /**
+     * Gets the strength of a hand, from the cache when present and otherwise from the evaluator
+     *
+     * @param mask long bitmask of the cards
+     * @return int strength
+     */
+    public int strength(long mask) {
+        long key = canonicalKeys ? SuitCanonicalizer.canonicalize(mask) : mask;
+        int strength = lookup(key);
+        if (strength != MISSING) {
+            hits.increment();
+            return strength;
+        }
+        misses.increment();
+        strength = evaluator.applyAsInt(key);
+        store(key, strength);
+        return strength;
+    }
+
+    /**
+     * Gets the strength of a hand only if it is cached, without counting a hit or miss
+     *
+     * @param mask long bitmask of the cards
+     * @return int strength, or MISSING
+     */
+    public int get(long mask) {
+        return lookup(canonicalKeys ? SuitCanonicalizer.canonicalize(mask) : mask);
+    }
+
+    /**
+     * Gets the number of lookups answered from the cache
+     *
+     * @return long hits
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of lookups that called the evaluator
+     *
+     * @return long misses
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the share of lookups answered from the cache
+     *
+     * @return double hit rate from 0 to 1, or 0 before any lookup
+     */
+    public double hitRate() {
+        long hitCount = hits();
+        long total = hitCount + misses();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    /**
+     * Gets the number of entries the cache holds when full
+     *
+     * @return int capacity
+     */
+    public int capacity() {
+        return keys.length;
+    }
+
+    /**
+     * Utility method
+     * Reads the entry for a key without locking, treating a bucket being written as a miss
+     *
+     * @return int strength, or MISSING
+     */
+    private int lookup(long key) {
+        int bucket = bucket(key);
+        int stamp = (int) STAMPS.getAcquire(stamps, bucket);
+        if ((stamp & 1) != 0) {
+            return MISSING;
+        }
+        int first = bucket * WAYS;
+        for (int slot = first; slot < first + WAYS; slot++) {
+            if (keys[slot] == key) {
+                int value = values[slot];
+
+                //the entry is only whole if no writer took the bucket while it was read
+                VarHandle.acquireFence();
+                if ((int) STAMPS.getAcquire(stamps, bucket) != stamp) {
+                    return MISSING;
+                }
+                touch(slot);
+                return value;
+            }
+        }
+        return MISSING;
+    }
+
+    /**
+     * Utility method
+     * Stores a strength, replacing an entry chosen by the policy when the bucket is full
+     * The store is skipped if another writer holds the bucket, as the entry can be evaluated again later
+     */
+    private void store(long key, int strength) {
+        int bucket = bucket(key);
+        int stamp = (int) STAMPS.getAcquire(stamps, bucket);
+        if ((stamp & 1) != 0 || !STAMPS.compareAndSet(stamps, bucket, stamp, stamp + 1)) {
+            return;
+        }
+        try {
+            int slot = slotFor(bucket, key);
+            keys[slot] = key;
+            values[slot] = strength;
+            touch(slot);
+        } finally {
+            STAMPS.setRelease(stamps, bucket, stamp + 2);
+        }
+    }
+
+    /**
+     * Utility method
+     * Finds the slot to write a key to: its own slot, an empty slot, or the policy's victim
+     */
+    private int slotFor(int bucket, long key) {
+        int first = bucket * WAYS;
+        for (int slot = first; slot < first + WAYS; slot++) {
+            if (keys[slot] == key || keys[slot] == EMPTY) {
+                return slot;
+            }
+        }
+        return policy == EvictionPolicy.CLOCK ? clockVictim(bucket, first) : lruVictim(first);
+    }
+
+    /**
+     * Utility method
+     * Sweeps the bucket's clock hand, clearing marks until it reaches an unmarked slot
+     */
+    private int clockVictim(int bucket, int first) {
+        int hand = hands[bucket];
+        while (referenced[first + hand] != 0) {
+            referenced[first + hand] = 0;
+            hand = (hand + 1) & (WAYS - 1);
+        }
+        hands[bucket] = (byte) ((hand + 1) & (WAYS - 1));
+        return first + hand;
+    }
+
+    /**
+     * Utility method
+     * Finds the slot of the bucket used longest ago
+     */
+    private int lruVictim(int first) {
+        int victim = first;
+        for (int slot = first + 1; slot < first + WAYS; slot++) {
+            if (lastUsed[slot] - lastUsed[victim] < 0) {
+                victim = slot;
+            }
+        }
+        return victim;
+    }
+
+    /**
+     * Utility method
+     * Records a use of a slot for the policy, as a plain write since the policy only needs to be roughly right
+     */
+    private void touch(int slot) {
+        if (policy == EvictionPolicy.CLOCK) {
+            referenced[slot] = 1;
+        } else {
+            lastUsed[slot] = ++tick;
+        }
+    }
+
+    /**
+     * Utility method
+     * Spreads the bits of a key to choose its bucket
+     */
+    private int bucket(long key) {
+        long h = (key ^ (key >>> 33)) * 0xFF51AFD7ED558CCDL;
+        return (int) (h ^ (h >>> 33)) & bucketMask;
+    }
+}
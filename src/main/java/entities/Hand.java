@@ -1,5 +1,6 @@
 package entities;
 
+import enums.HandCategory;
 import enums.Rank;
 
 import java.util.*;
@@ -7,16 +8,21 @@ import java.util.stream.Collectors;
 
 /**
  * This class represents a hand of cards, and contains functionality to determine the name of the best hand
+ * Hands are ordered by strength, so two hands of equal strength compare as equal even when their cards differ
  *
  * @author aine mccaughey
  * @version 1.0
  */
-public class Hand {
-    private final Set<Card> cards;
+public class Hand implements Comparable<Hand> {
+    private final Card[] cards;
 
     private final int HAND_SIZE = 5;
 
-    private final Map<String, Integer> rankCounts;
+    private final long cardMask;
+
+    private final int strength;
+
+    private int[] rankCounts;
     /**
      * Method accepts a variable collection of cards (varargs)
      *
@@ -28,14 +34,45 @@ public class Hand {
             throw new IllegalArgumentException("A hand must contain " + HAND_SIZE + " cards");
         }
 
-        // check for duplicate cards
-        this.cards = new HashSet<Card>(Arrays.asList(cards));
-        if (this.cards.size() != HAND_SIZE)
+        // check for duplicate cards, duplicates share a bit in the mask
+        this.cardMask = CardCodec.mask(cards);
+        if (Long.bitCount(this.cardMask) != HAND_SIZE)
         {
             throw new IllegalArgumentException("Duplicate Card In Hand");
         }
 
-        this.rankCounts = getRankCounts();
+        this.cards = cards.clone();
+        this.strength = HandEvaluator.strength(cardMask);
+    }
+
+    /**
+     * Gets the bitmask of the cards in the hand, one bit per card id as encoded by the CardCodec
+     *
+     * @return long bitmask of the cards
+     */
+    public long getCardMask() {
+        return cardMask;
+    }
+
+    /**
+     * Gets the packed strength of the hand, with the category in the high bits and tie breaking ranks in the low bits
+     * A greater strength beats a lesser one, and equal strengths tie
+     *
+     * @return int strength as packed by the HandEvaluator
+     */
+    public int getStrength() {
+        return strength;
+    }
+
+    /**
+     * Compares hands by strength
+     *
+     * @param other Hand to compare against
+     * @return int negative when this hand loses, zero for a tie, positive when this hand wins
+     */
+    @Override
+    public int compareTo(Hand other) {
+        return Integer.compare(strength, other.strength);
     }
 
     /**
@@ -147,12 +184,30 @@ public class Hand {
         return isLooseStraight() && isFlush() && handContains(Rank.KING) && handContains(Rank.ACE);
     }
 
+    /**
+     * Will determine the hand type, which is held in the strength looked up by the HandEvaluator
+     *
+     * @return HandCategory
+     */
+    public HandCategory evaluate() {
+        return HandCategory.fromOrdinal(HandEvaluator.categoryOf(strength));
+    }
+
     /**
      * Will determine the hand type and return a string representation of that hand
      *
      * @return String hand name
      */
     public String handName() {
+        return evaluate().toString();
+    }
+
+    /**
+     * Will determine the hand type by walking the predicates, kept as the reference implementation for handName
+     *
+     * @return String hand name
+     */
+    public String referenceHandName() {
         return isRoyalFlush() ? "Royal Flush" :
                 isStraightFlush() ? "Straight Flush" :
                         isFourOfAKind() ? "Four of a Kind" :
@@ -171,7 +226,7 @@ public class Hand {
      * @return String coded representation of hand
      */
     public String toString() {
-        return cards.stream()
+        return Arrays.stream(cards)
                 .map(c -> c.rank().toString() + c.suit().toString() )
                 .collect(Collectors.joining(" "));
     }
@@ -205,16 +260,19 @@ public class Hand {
 
     /**
      * Utility method
-     * Gets the count of each rank in the hand
+     * Gets the count of each rank in the hand, built on first use as only the predicates need it
      *
-     * @return Map<String, Integer> rankCounts where String is the rank and Integer is the number of that rank
+     * @return int[] rankCounts indexed by rank ordinal
      */
-    private Map<String, Integer> getRankCounts() {
-        Map<String, Integer> rankCounts = new HashMap<>();
+    private int[] getRankCounts() {
+        if (rankCounts == null) {
+            int[] counts = new int[CardCodec.RANK_COUNT];
 
-        //create a record of the number of each rank
-        for (Card card : cards) {
-            rankCounts.merge(card.rank().name(), 1, Integer::sum);
+            //create a record of the number of each rank
+            for (Card card : cards) {
+                counts[card.rank().ordinal()]++;
+            }
+            rankCounts = counts;
         }
 
         return rankCounts;
@@ -268,7 +326,7 @@ public class Hand {
      * @return long number of cards with given count
      */
     private long getSameRankCount( int sameCount) {
-        return rankCounts.values().stream()
+        return Arrays.stream(getRankCounts())
                 .filter(count -> count == sameCount)
                 .count();
     }
@@ -280,7 +338,7 @@ public class Hand {
      * @return Card[] cards sorted
      */
     private Card[] getSortedCards() {
-        return cards.stream().sorted(Comparator.comparing(Card::rank)).toArray(Card[]::new);
+        return Arrays.stream(cards).sorted(Comparator.comparing(Card::rank)).toArray(Card[]::new);
     }
 
     /**
@@ -291,6 +349,6 @@ public class Hand {
      * @return boolean
      */
     private boolean handContains(Rank rank) {
-        return cards.stream().anyMatch(c -> c.rank().equals(rank));
+        return Arrays.stream(cards).anyMatch(c -> c.rank().equals(rank));
     }
 }
\ No newline at end of file
@@ -0,0 +1,146 @@
+package entities;
+
+import enums.HandCategory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+
+/**
+ * This class represents an enumerator of every five card hand, and contains functionality to count the hands in
+ * each category across a fork join pool, and to check the HandEvaluator against the Hand predicates for every hand
+ *
+ * Work is split by the two highest card ids in the hand, one task per pair, so the largest task holds under one
+ * percent of the hands and the pool stays busy to the end
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public final class HandEnumerator {
+    public static final long HAND_COUNT = 2_598_960L;
+
+    //the known number of five card hands in each category, indexed by HandCategory ordinal
+    private static final long[] EXPECTED_COUNTS = {
+            1_302_540L,
+            1_098_240L,
+            123_552L,
+            54_912L,
+            10_200L,
+            5_108L,
+            3_744L,
+            624L,
+            36L,
+            4L
+    };
+
+    private HandEnumerator() {
+    }
+
+    /**
+     * Gets the known number of five card hands in a category
+     *
+     * @param category HandCategory
+     * @return long number of hands
+     */
+    public static long expectedCount(HandCategory category) {
+        return EXPECTED_COUNTS[category.ordinal()];
+    }
+
+    /**
+     * Evaluates every five card hand with the HandEvaluator and counts the hands in each category
+     *
+     * @param pool ForkJoinPool to enumerate on
+     * @return long[] number of hands, indexed by HandCategory ordinal
+     */
+    public static long[] countCategories(ForkJoinPool pool) {
+        return sum(pool, topPair -> () -> {
+            long[] counts = new long[HandCategory.COUNT];
+            forEachHand(topPair, mask -> counts[HandEvaluator.category(mask)]++);
+            return counts;
+        });
+    }
+
+    /**
+     * Builds a Hand for every five card hand and compares its category from the HandEvaluator against the category
+     * named by the predicates, which are the reference implementation
+     *
+     * @param pool ForkJoinPool to enumerate on
+     * @return long number of hands where the two disagree
+     */
+    public static long countMismatches(ForkJoinPool pool) {
+        return sum(pool, topPair -> () -> {
+            long[] mismatches = new long[1];
+            forEachHand(topPair, mask -> {
+                Hand hand = HandFactory.MakeHandFromMask(mask);
+                if (!hand.handName().equals(hand.referenceHandName())) {
+                    mismatches[0]++;
+                }
+            });
+            return mismatches;
+        })[0];
+    }
+
+    /**
+     * Utility method
+     * Visits every five card mask whose two highest cards are topPair
+     *
+     * @param topPair long mask of the two highest cards
+     * @param visitor LongConsumer called with each mask
+     */
+    private static void forEachHand(long topPair, LongConsumer visitor) {
+        int second = Long.numberOfTrailingZeros(topPair);
+        for (int c = 2; c < second; c++) {
+            long abc = topPair | CardCodec.bit(c);
+            for (int d = 1; d < c; d++) {
+                long abcd = abc | CardCodec.bit(d);
+                for (int e = 0; e < d; e++) {
+                    visitor.accept(abcd | CardCodec.bit(e));
+                }
+            }
+        }
+    }
+
+    /**
+     * Utility method
+     * Runs one task per pair of top cards on the pool and adds up the arrays they return
+     *
+     * @param pool ForkJoinPool to run on
+     * @param taskForTopPair LongFunction making the task for the mask of each pair of top cards
+     * @return long[] element wise sum of the results
+     */
+    private static long[] sum(ForkJoinPool pool, LongFunction<Callable<long[]>> taskForTopPair) {
+        List<Callable<long[]>> tasks = new ArrayList<>();
+        //the second card of every hand has an id of at least 3, with three lower cards below it
+        for (int top = CardCodec.CARD_COUNT - 1; top >= 4; top--) {
+            for (int second = top - 1; second >= 3; second--) {
+                tasks.add(taskForTopPair.apply(CardCodec.bit(top) | CardCodec.bit(second)));
+            }
+        }
+
+        long[] total = null;
+        for (Future<long[]> future : pool.invokeAll(tasks)) {
+            long[] part;
+            try {
+                part = future.get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted enumerating hands", ex);
+            } catch (ExecutionException ex) {
+                throw new IllegalStateException("Failed enumerating hands", ex.getCause());
+            }
+            if (total == null) {
+                total = part;
+            } else {
+                for (int i = 0; i < total.length; i++) {
+                    total[i] += part[i];
+                }
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,251 @@
+package entities;
+
+import enums.HandCategory;
+
+/**
+ * This class represents a lookup table evaluator, and contains functionality to determine the category of a hand
+ * from a bitmask of its cards in a handful of array reads, rather than walking the predicates in Hand
+ *
+ * Cards are encoded by the CardCodec as one bit each in a long, 13 bits per suit
+ *
+ * A strength packs the category into the bits from CATEGORY_SHIFT up and the tie breaking ranks below it, four bits
+ * each from most to least significant, valued with two as 0 and ace as 12, so stronger hands have greater strengths
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public final class HandEvaluator {
+    //categories as ints, matching the ordinals of HandCategory, for use in tables and switches
+    public static final int HIGH_CARD = 0;
+    public static final int ONE_PAIR = 1;
+    public static final int TWO_PAIR = 2;
+    public static final int THREE_OF_A_KIND = 3;
+    public static final int STRAIGHT = 4;
+    public static final int FLUSH = 5;
+    public static final int FULL_HOUSE = 6;
+    public static final int FOUR_OF_A_KIND = 7;
+    public static final int STRAIGHT_FLUSH = 8;
+    public static final int ROYAL_FLUSH = 9;
+
+    public static final int CATEGORY_SHIFT = 20;
+
+    static final int RANK_COUNT = CardCodec.RANK_COUNT;
+    static final int RANK_BITS = (1 << RANK_COUNT) - 1;
+
+    //ace is rank ordinal 0, so ten to ace wraps round to bit 0
+    static final int BROADWAY = 0b1_1110_0000_0001;
+
+    //ace to five, the only straight where the ace counts low
+    static final int WHEEL = 0b1_1111;
+
+    //category of five distinct ranks when all cards share a suit, and when they do not
+    private static final byte[] FLUSH_CATEGORIES = new byte[1 << RANK_COUNT];
+    private static final byte[] UNIQUE_CATEGORIES = new byte[1 << RANK_COUNT];
+
+    //value of the top card of the best straight in a rank mask, -1 when there is none
+    static final byte[] STRAIGHT_TOPS = new byte[1 << RANK_COUNT];
+
+    //values of the five highest ranks in a rank mask, packed most significant first from bit 16
+    static final int[] TOP_RANKS = new int[1 << RANK_COUNT];
+
+    //as TOP_RANKS but with the ace low, valued by rank ordinal, for the LowballEvaluator
+    static final int[] LOW_TOP_RANKS = new int[1 << RANK_COUNT];
+
+    static {
+        for (int ranks = 0; ranks <= RANK_BITS; ranks++) {
+            STRAIGHT_TOPS[ranks] = (byte) straightTop(ranks);
+            TOP_RANKS[ranks] = topRanks(ranks, true);
+            LOW_TOP_RANKS[ranks] = topRanks(ranks, false);
+            if (Integer.bitCount(ranks) != 5) {
+                continue;
+            }
+            boolean straight = STRAIGHT_TOPS[ranks] >= 0;
+            UNIQUE_CATEGORIES[ranks] = (byte) (straight ? STRAIGHT : HIGH_CARD);
+            FLUSH_CATEGORIES[ranks] = (byte) (ranks == BROADWAY ? ROYAL_FLUSH : straight ? STRAIGHT_FLUSH : FLUSH);
+        }
+    }
+
+    private HandEvaluator() {
+    }
+
+    /**
+     * Determines the category of a five card hand
+     *
+     * @param cards long bitmask of the five cards in the hand
+     * @return int category, from HIGH_CARD to ROYAL_FLUSH
+     */
+    public static int category(long cards) {
+        int s0 = (int) cards & RANK_BITS;
+        int s1 = (int) (cards >>> RANK_COUNT) & RANK_BITS;
+        int s2 = (int) (cards >>> (2 * RANK_COUNT)) & RANK_BITS;
+        int s3 = (int) (cards >>> (3 * RANK_COUNT)) & RANK_BITS;
+        int ranks = s0 | s1 | s2 | s3;
+
+        switch (Integer.bitCount(ranks)) {
+            case 5:
+                //five distinct ranks are a flush when they all came from one suit
+                boolean flush = ranks == s0 || ranks == s1 || ranks == s2 || ranks == s3;
+                return flush ? FLUSH_CATEGORIES[ranks] : UNIQUE_CATEGORIES[ranks];
+            case 4:
+                return ONE_PAIR;
+            case 3:
+                //either one rank held three times, or two ranks held twice
+                return (s0 & s1 & s2 | s0 & s1 & s3 | s0 & s2 & s3 | s1 & s2 & s3) != 0 ? THREE_OF_A_KIND : TWO_PAIR;
+            default:
+                return (s0 & s1 & s2 & s3) != 0 ? FOUR_OF_A_KIND : FULL_HOUSE;
+        }
+    }
+
+    /**
+     * Determines the strength of a five card hand, so that comparing strengths compares the hands
+     *
+     * @param cards long bitmask of the five cards in the hand
+     * @return int strength, the category shifted by CATEGORY_SHIFT and the tie breaking ranks below it
+     */
+    public static int strength(long cards) {
+        int s0 = (int) cards & RANK_BITS;
+        int s1 = (int) (cards >>> RANK_COUNT) & RANK_BITS;
+        int s2 = (int) (cards >>> (2 * RANK_COUNT)) & RANK_BITS;
+        int s3 = (int) (cards >>> (3 * RANK_COUNT)) & RANK_BITS;
+        int ranks = s0 | s1 | s2 | s3;
+
+        switch (Integer.bitCount(ranks)) {
+            case 5: {
+                boolean flush = ranks == s0 || ranks == s1 || ranks == s2 || ranks == s3;
+                int top = STRAIGHT_TOPS[ranks];
+                if (top < 0) {
+                    return pack(flush ? FLUSH : HIGH_CARD, TOP_RANKS[ranks]);
+                }
+                //an ace low straight is valued by its five, so it loses to every other straight
+                return pack(flush ? (ranks == BROADWAY ? ROYAL_FLUSH : STRAIGHT_FLUSH) : STRAIGHT, top << 16);
+            }
+            case 4: {
+                int pair = s0 & s1 | s0 & s2 | s0 & s3 | s1 & s2 | s1 & s3 | s2 & s3;
+                return pack(ONE_PAIR, TOP_RANKS[pair] | TOP_RANKS[ranks ^ pair] >>> 4);
+            }
+            case 3: {
+                int trips = s0 & s1 & s2 | s0 & s1 & s3 | s0 & s2 & s3 | s1 & s2 & s3;
+                if (trips != 0) {
+                    return pack(THREE_OF_A_KIND, TOP_RANKS[trips] | TOP_RANKS[ranks ^ trips] >>> 4);
+                }
+                int pairs = s0 & s1 | s0 & s2 | s0 & s3 | s1 & s2 | s1 & s3 | s2 & s3;
+                return pack(TWO_PAIR, TOP_RANKS[pairs] | TOP_RANKS[ranks ^ pairs] >>> 8);
+            }
+            default: {
+                int quads = s0 & s1 & s2 & s3;
+                if (quads != 0) {
+                    return pack(FOUR_OF_A_KIND, TOP_RANKS[quads] | TOP_RANKS[ranks ^ quads] >>> 4);
+                }
+                int trips = s0 & s1 & s2 | s0 & s1 & s3 | s0 & s2 & s3 | s1 & s2 & s3;
+                return pack(FULL_HOUSE, TOP_RANKS[trips] | TOP_RANKS[ranks ^ trips] >>> 4);
+            }
+        }
+    }
+
+    /**
+     * Gets the category held in a strength
+     *
+     * @param strength int strength
+     * @return int category, from HIGH_CARD to ROYAL_FLUSH
+     */
+    public static int categoryOf(int strength) {
+        return strength >>> CATEGORY_SHIFT;
+    }
+
+    /**
+     * Determines the category of a five card hand as a HandCategory
+     *
+     * @param cards long bitmask of the five cards in the hand
+     * @return HandCategory
+     */
+    public static HandCategory evaluate(long cards) {
+        return HandCategory.fromOrdinal(category(cards));
+    }
+
+    /**
+     * Gets the display name of the category of a five card hand
+     *
+     * @param cards long bitmask of the five cards in the hand
+     * @return String hand name
+     */
+    public static String handName(long cards) {
+        return evaluate(cards).toString();
+    }
+
+    /**
+     * Gets the display name of a category
+     *
+     * @param category int category, from HIGH_CARD to ROYAL_FLUSH
+     * @return String hand name
+     */
+    public static String categoryName(int category) {
+        return HandCategory.fromOrdinal(category).toString();
+    }
+
+    /**
+     * Utility method
+     * Packs a category and its tie breaking ranks into a strength
+     *
+     * @param category int category
+     * @param kickers int tie breaking rank values, most significant from bit 16
+     * @return int strength
+     */
+    static int pack(int category, int kickers) {
+        return category << CATEGORY_SHIFT | kickers;
+    }
+
+    /**
+     * Utility method
+     * Gets the value of a rank ordinal with ace high, so two is 0 and ace is 12
+     *
+     * @param rankOrdinal int rank ordinal, where ace is 0
+     * @return int rank value
+     */
+    static int rankValue(int rankOrdinal) {
+        return rankOrdinal == 0 ? RANK_COUNT - 1 : rankOrdinal - 1;
+    }
+
+    /**
+     * Utility method
+     * Finds the best straight in a rank mask, with ace either low or high
+     *
+     * @param ranks int mask of rank ordinals
+     * @return int value of the top card of the straight, or -1 when there is none
+     */
+    private static int straightTop(int ranks) {
+        if ((ranks & BROADWAY) == BROADWAY) {
+            return rankValue(0);
+        }
+        //runs from nine to king down to ace to five, where the ace counts low
+        for (int lowest = RANK_COUNT - 5; lowest >= 0; lowest--) {
+            int run = 0b11111 << lowest;
+            if ((ranks & run) == run) {
+                return rankValue(lowest + 4);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Utility method
+     * Packs the values of the five highest ranks in a rank mask, most significant first from bit 16
+     * With the ace high, two is valued 0 and ace 12, and with the ace low, ace is valued 0 and king 12
+     *
+     * @param ranks int mask of rank ordinals
+     * @param aceHigh boolean whether the ace ranks above the king or below the two
+     * @return int packed rank values
+     */
+    private static int topRanks(int ranks, boolean aceHigh) {
+        int packed = 0;
+        int shift = 16;
+        for (int value = RANK_COUNT - 1; value >= 0 && shift >= 0; value--) {
+            //with the ace high, value 12 is the ace, held at ordinal 0
+            int ordinal = !aceHigh ? value : value == RANK_COUNT - 1 ? 0 : value + 1;
+            if ((ranks & (1 << ordinal)) != 0) {
+                packed |= value << shift;
+                shift -= 4;
+            }
+        }
+        return packed;
+    }
+}
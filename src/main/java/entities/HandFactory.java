@@ -10,12 +10,37 @@ public class HandFactory {
 
     /**
      * A factory method to construct a hand from a coded string
+     * The string is parsed in place, so any whitespace may separate or surround the codes
      *
      * @param hand is a string of char pairs separated by spaces ("3D 4S...")
      * @return a new hand
      */
     public static Hand MakeHandFromString(String hand) {
-        return MakeHandFromArrayOfCodes(hand.split(" "));
+        int[] ids = new int[HandParser.HAND_SIZE];
+        int count = HandParser.parseLine(hand, ids);
+
+        var cards = new Card[count];
+        for (var i = 0; i < count; i++) {
+            cards[i] = CardCodec.card(ids[i]);
+        }
+        return new Hand(cards);
+    }
+
+    /**
+     * A factory method to read any number of coded cards, such as hole cards or a board, without making a hand
+     *
+     * @param codes is a string of char pairs separated by spaces ("3D 4S...")
+     * @return the cards, in the order given
+     */
+    public static Card[] MakeCardsFromString(String codes) {
+        int[] ids = new int[CardCodec.CARD_COUNT];
+        int count = HandParser.parseCards(codes, ids);
+
+        var cards = new Card[count];
+        for (var i = 0; i < count; i++) {
+            cards[i] = CardCodec.card(ids[i]);
+        }
+        return cards;
     }
 
     /**
@@ -37,4 +62,14 @@ public class HandFactory {
         }
         return new Hand(cards);
     }
+
+    /**
+     * A factory method to construct a hand from a bitmask of card ids
+     *
+     * @param mask is a long with one bit set per card, as encoded by the CardCodec
+     * @return a new hand
+     */
+    public static Hand MakeHandFromMask(long mask) {
+        return new Hand(CardCodec.cards(mask));
+    }
 }
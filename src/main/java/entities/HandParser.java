@@ -0,0 +1,265 @@
+package entities;
+
+import enums.ParseStatus;
+
+import java.nio.ByteBuffer;
+
+/**
+ * This class represents a parser for coded hand lines ("3D 4S..."), and contains functionality to read the card ids
+ * of a line straight from a byte array, byte buffer or char sequence without creating any strings
+ *
+ * Cards may be separated by any run of spaces, tabs or other whitespace, and leading or trailing whitespace is ignored,
+ * so lines do not need to be split or trimmed first. Card ids are written into a buffer supplied by the caller, which
+ * can be reused from line to line
+ *
+ * The parseLine methods throw an IllegalArgumentException for a bad line, while the tryParseLine methods return a
+ * ParseStatus instead, so input with many bad lines can be skipped through without the cost of exceptions. Every
+ * method reads cards through the same loop, so a line is accepted or rejected for the same reason whatever holds it
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public final class HandParser {
+    public static final int HAND_SIZE = 5;
+
+    private static final CharAt<byte[]> BYTES = (bytes, index) -> bytes[index];
+    private static final CharAt<ByteBuffer> BUFFER = ByteBuffer::get;
+    private static final CharAt<CharSequence> CHARS = CharSequence::charAt;
+
+    private static final ParseStatus[] STATUSES = ParseStatus.values();
+
+    private HandParser() {
+    }
+
+    /**
+     * Parses the whitespace separated card codes in a line of bytes into card ids
+     *
+     * @param bytes byte[] holding the line
+     * @param from int index of the first byte of the line
+     * @param to int index just past the last byte of the line, excluding the newline
+     * @param ids int[] of at least HAND_SIZE to write card ids into
+     * @return int number of cards read, HAND_SIZE or 0 for a blank line
+     */
+    public static int parseLine(byte[] bytes, int from, int to, int[] ids) {
+        return checkStatus(tryParseLine(bytes, from, to, ids));
+    }
+
+    /**
+     * Parses the whitespace separated card codes in a line of a byte buffer into card ids, using absolute reads
+     *
+     * @param buffer ByteBuffer holding the line
+     * @param from int index of the first byte of the line
+     * @param to int index just past the last byte of the line, excluding the newline
+     * @param ids int[] of at least HAND_SIZE to write card ids into
+     * @return int number of cards read, HAND_SIZE or 0 for a blank line
+     */
+    public static int parseLine(ByteBuffer buffer, int from, int to, int[] ids) {
+        return checkStatus(tryParseLine(buffer, from, to, ids));
+    }
+
+    /**
+     * Parses the whitespace separated card codes in a line of chars into card ids
+     *
+     * @param chars CharSequence holding the line
+     * @param from int index of the first char of the line
+     * @param to int index just past the last char of the line, excluding the newline
+     * @param ids int[] of at least HAND_SIZE to write card ids into
+     * @return int number of cards read, HAND_SIZE or 0 for a blank line
+     */
+    public static int parseLine(CharSequence chars, int from, int to, int[] ids) {
+        return checkStatus(tryParseLine(chars, from, to, ids));
+    }
+
+    /**
+     * Parses the whitespace separated card codes in a whole string of chars into card ids
+     *
+     * @param chars CharSequence holding the line
+     * @param ids int[] of at least HAND_SIZE to write card ids into
+     * @return int number of cards read, HAND_SIZE or 0 for a blank line
+     */
+    public static int parseLine(CharSequence chars, int[] ids) {
+        return parseLine(chars, 0, chars.length(), ids);
+    }
+
+    /**
+     * Parses a line of bytes into card ids without throwing
+     *
+     * @param bytes byte[] holding the line
+     * @param from int index of the first byte of the line
+     * @param to int index just past the last byte of the line, excluding the newline
+     * @param ids int[] of at least HAND_SIZE to write card ids into
+     * @return ParseStatus VALID when ids holds a hand of distinct cards, BLANK, or why the line was rejected
+     */
+    public static ParseStatus tryParseLine(byte[] bytes, int from, int to, int[] ids) {
+        return handStatus(ids, readCards(bytes, BYTES, from, to, ids, HAND_SIZE));
+    }
+
+    /**
+     * Parses a line of a byte buffer into card ids without throwing, using absolute reads
+     *
+     * @param buffer ByteBuffer holding the line
+     * @param from int index of the first byte of the line
+     * @param to int index just past the last byte of the line, excluding the newline
+     * @param ids int[] of at least HAND_SIZE to write card ids into
+     * @return ParseStatus VALID when ids holds a hand of distinct cards, BLANK, or why the line was rejected
+     */
+    public static ParseStatus tryParseLine(ByteBuffer buffer, int from, int to, int[] ids) {
+        return handStatus(ids, readCards(buffer, BUFFER, from, to, ids, HAND_SIZE));
+    }
+
+    /**
+     * Parses a line of chars into card ids without throwing
+     *
+     * @param chars CharSequence holding the line
+     * @param from int index of the first char of the line
+     * @param to int index just past the last char of the line, excluding the newline
+     * @param ids int[] of at least HAND_SIZE to write card ids into
+     * @return ParseStatus VALID when ids holds a hand of distinct cards, BLANK, or why the line was rejected
+     */
+    public static ParseStatus tryParseLine(CharSequence chars, int from, int to, int[] ids) {
+        return handStatus(ids, readCards(chars, CHARS, from, to, ids, HAND_SIZE));
+    }
+
+    /**
+     * Parses a whole string of chars into card ids without throwing
+     *
+     * @param chars CharSequence holding the line
+     * @param ids int[] of at least HAND_SIZE to write card ids into
+     * @return ParseStatus VALID when ids holds a hand of distinct cards, BLANK, or why the line was rejected
+     */
+    public static ParseStatus tryParseLine(CharSequence chars, int[] ids) {
+        return tryParseLine(chars, 0, chars.length(), ids);
+    }
+
+    /**
+     * Parses any number of whitespace separated card codes, up to the length of ids, such as hole cards or a board
+     *
+     * @param chars CharSequence holding the codes
+     * @param ids int[] to write card ids into
+     * @return int number of cards read
+     */
+    public static int parseCards(CharSequence chars, int[] ids) {
+        int count = readCards(chars, CHARS, 0, chars.length(), ids, ids.length);
+        if (count < 0) {
+            ParseStatus status = STATUSES[~count];
+            throw new IllegalArgumentException(
+                    status == ParseStatus.WRONG_CARD_COUNT ? "Too Many Cards" : status.message());
+        }
+        return count;
+    }
+
+    /**
+     * Builds the mask of parsed card ids, checking for duplicates
+     *
+     * @param ids int[] card ids
+     * @param count int number of card ids
+     * @return long mask as encoded by the CardCodec
+     */
+    public static long toMask(int[] ids, int count) {
+        long mask = 0L;
+        for (int i = 0; i < count; i++) {
+            mask |= 1L << ids[i];
+        }
+        if (Long.bitCount(mask) != count) {
+            throw new IllegalArgumentException("Duplicate Card In Hand");
+        }
+        return mask;
+    }
+
+    /**
+     * Utility method
+     * Reads whitespace separated card codes in a range of a byte array, byte buffer or char sequence, up to the given
+     * number of cards. Each holder has its own constant accessor, so the JIT sees a single type at each caller
+     *
+     * @param source T holding the codes
+     * @param at CharAt reading a byte or char of the source
+     * @param from int index of the first byte or char
+     * @param to int index just past the last byte or char
+     * @param ids int[] to write card ids into
+     * @param maxCards int most cards to read
+     * @return int number of cards read, or the complement of the ParseStatus ordinal of why they could not be read,
+     *         being WRONG_CARD_COUNT when there are more than maxCards
+     */
+    private static <T> int readCards(T source, CharAt<T> at, int from, int to, int[] ids, int maxCards) {
+        int count = 0;
+        int i = from;
+        while (i < to) {
+            int rank = at.charAt(source, i);
+            if (isSeparator(rank)) {
+                i++;
+                continue;
+            }
+            if (count == maxCards) {
+                return ~ParseStatus.WRONG_CARD_COUNT.ordinal();
+            }
+            if (i + 1 >= to || (i + 2 < to && !isSeparator(at.charAt(source, i + 2)))) {
+                return ~ParseStatus.INVALID_CARD_CODE.ordinal();
+            }
+            int id = Card.CreateCardId((char) (rank & 0xFFFF), (char) (at.charAt(source, i + 1) & 0xFFFF));
+            if (id < 0) {
+                return ~ParseStatus.INVALID_CARD.ordinal();
+            }
+            ids[count++] = id;
+            i += 2;
+        }
+        return count;
+    }
+
+    /**
+     * Utility method
+     * Checks for a byte or char that may appear between cards, being a space, tab, carriage return or other control
+     *
+     * @param c int byte or char
+     * @return boolean
+     */
+    private static boolean isSeparator(int c) {
+        return c >= 0 && c <= ' ';
+    }
+
+    /**
+     * Utility method
+     * Classifies the cards read from a line as a hand of distinct cards, a blank line, or why it was rejected
+     */
+    private static ParseStatus handStatus(int[] ids, int count) {
+        if (count < 0) {
+            return STATUSES[~count];
+        }
+        if (count == 0) {
+            return ParseStatus.BLANK;
+        }
+        if (count != HAND_SIZE) {
+            return ParseStatus.WRONG_CARD_COUNT;
+        }
+        long mask = 0L;
+        for (int i = 0; i < HAND_SIZE; i++) {
+            mask |= 1L << ids[i];
+        }
+        return Long.bitCount(mask) == HAND_SIZE ? ParseStatus.VALID : ParseStatus.DUPLICATE_CARD;
+    }
+
+    /**
+     * Utility method
+     * Throws for a rejected line, otherwise giving the number of cards read
+     */
+    private static int checkStatus(ParseStatus status) {
+        if (status.isError()) {
+            throw new IllegalArgumentException(status.message());
+        }
+        return status == ParseStatus.VALID ? HAND_SIZE : 0;
+    }
+
+    /**
+     * This interface represents a way of reading a byte or char of whatever holds a line
+     */
+    private interface CharAt<T> {
+
+        /**
+         * Reads the byte or char at an index
+         *
+         * @param source T holding the line
+         * @param index int
+         * @return int byte or char
+         */
+        int charAt(T source, int index);
+    }
+}
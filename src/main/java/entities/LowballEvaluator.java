@@ -0,0 +1,118 @@
+package entities;
+
+import enums.HandCategory;
+
+/**
+ * This class represents a lowball evaluator, and contains functionality to determine the strength of a hand under
+ * ace to five and deuce to seven rules straight from its bitmask, using the same rank tables as the HandEvaluator
+ *
+ * A lowball hand is first valued as a high hand would be under its rules (its badness), packed as by the HandEvaluator,
+ * and its strength is LOW_BASE less the badness, so that as for high hands stronger hands have greater strengths and
+ * the best hand is found by comparing strengths. Strengths of different rankings must not be compared
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public final class LowballEvaluator {
+    //greater than every packed badness, so every lowball strength is positive
+    public static final int LOW_BASE = (HandEvaluator.ROYAL_FLUSH + 1) << HandEvaluator.CATEGORY_SHIFT;
+
+    private static final int RANK_COUNT = HandEvaluator.RANK_COUNT;
+    private static final int RANK_BITS = HandEvaluator.RANK_BITS;
+
+    private LowballEvaluator() {
+    }
+
+    /**
+     * Determines the ace to five strength of the best five cards within the given cards
+     * Aces are low and straights and flushes are ignored, so the best hand is A-2-3-4-5 of any suits
+     * Any number of cards from five to seven may be given, as in razz
+     *
+     * @param cards long bitmask of the cards
+     * @return int strength, LOW_BASE less the badness
+     */
+    public static int aceToFive(long cards) {
+        int s0 = (int) cards & RANK_BITS;
+        int s1 = (int) (cards >>> RANK_COUNT) & RANK_BITS;
+        int s2 = (int) (cards >>> (2 * RANK_COUNT)) & RANK_BITS;
+        int s3 = (int) (cards >>> (3 * RANK_COUNT)) & RANK_BITS;
+        int ranks = s0 | s1 | s2 | s3;
+        int pairs = s0 & s1 | s0 & s2 | s0 & s3 | s1 & s2 | s1 & s3 | s2 & s3;
+        int[] low = HandEvaluator.LOW_TOP_RANKS;
+
+        //rank ordinals run from the ace up, so the lowest bits are the lowest ranks
+        switch (Math.min(Integer.bitCount(ranks), 5)) {
+            case 5:
+                return LOW_BASE - HandEvaluator.pack(HandEvaluator.HIGH_CARD, low[lowestBits(ranks, 5)]);
+            case 4: {
+                int pair = pairs & -pairs;
+                return LOW_BASE - HandEvaluator.pack(HandEvaluator.ONE_PAIR, low[pair] | low[ranks ^ pair] >>> 4);
+            }
+            case 3: {
+                if (Integer.bitCount(pairs) >= 2) {
+                    int twoPairs = lowestBits(pairs, 2);
+                    return LOW_BASE - HandEvaluator.pack(HandEvaluator.TWO_PAIR, low[twoPairs] | low[ranks ^ twoPairs] >>> 8);
+                }
+                return LOW_BASE - HandEvaluator.pack(HandEvaluator.THREE_OF_A_KIND, low[pairs] | low[ranks ^ pairs] >>> 4);
+            }
+            default: {
+                //two ranks: a full house beats four of a kind, with the lowest trips that leave a pair
+                int trips = s0 & s1 & s2 | s0 & s1 & s3 | s0 & s2 & s3 | s1 & s2 & s3;
+                for (int candidates = trips; candidates != 0; candidates &= candidates - 1) {
+                    int trip = candidates & -candidates;
+                    if ((pairs & ~trip) != 0) {
+                        return LOW_BASE - HandEvaluator.pack(HandEvaluator.FULL_HOUSE, low[trip] | low[pairs & ~trip] >>> 4);
+                    }
+                }
+                int quads = s0 & s1 & s2 & s3;
+                return LOW_BASE - HandEvaluator.pack(HandEvaluator.FOUR_OF_A_KIND, low[quads] | low[ranks ^ quads] >>> 4);
+            }
+        }
+    }
+
+    /**
+     * Determines the deuce to seven strength of a five card hand
+     * Aces are high and straights and flushes count against the hand, so A-2-3-4-5 is only ace high and the best hand
+     * is 7-5-4-3-2 of mixed suits
+     *
+     * @param cards long bitmask of the five cards in the hand
+     * @return int strength, LOW_BASE less the badness
+     */
+    public static int deuceToSeven(long cards) {
+        int s0 = (int) cards & RANK_BITS;
+        int s1 = (int) (cards >>> RANK_COUNT) & RANK_BITS;
+        int s2 = (int) (cards >>> (2 * RANK_COUNT)) & RANK_BITS;
+        int s3 = (int) (cards >>> (3 * RANK_COUNT)) & RANK_BITS;
+        int ranks = s0 | s1 | s2 | s3;
+
+        //apart from the wheel, a hand is exactly as bad as it is good as a high hand
+        if (ranks != HandEvaluator.WHEEL) {
+            return LOW_BASE - HandEvaluator.strength(cards);
+        }
+        boolean flush = ranks == s0 || ranks == s1 || ranks == s2 || ranks == s3;
+        return LOW_BASE - HandEvaluator.pack(flush ? HandEvaluator.FLUSH : HandEvaluator.HIGH_CARD, HandEvaluator.TOP_RANKS[ranks]);
+    }
+
+    /**
+     * Gets the category a lowball hand was valued as (a pair counts against a hand as a pair would for it)
+     *
+     * @param strength int lowball strength
+     * @return HandCategory
+     */
+    public static HandCategory categoryOf(int strength) {
+        return HandCategory.fromOrdinal(HandEvaluator.categoryOf(LOW_BASE - strength));
+    }
+
+    /**
+     * Utility method
+     * Keeps the given number of lowest set bits of a mask
+     */
+    private static int lowestBits(int mask, int count) {
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            kept |= mask & -mask;
+            mask &= mask - 1;
+        }
+        return kept;
+    }
+}
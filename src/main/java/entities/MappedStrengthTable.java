@@ -0,0 +1,294 @@
+package entities;
+
+import enums.HandRanking;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * This class represents a precomputed table of the strength of every hand of a fixed number of cards, and contains
+ * functionality to generate the table once into a versioned, checksummed file and to memory map it read only
+ *
+ * A table holds strengths under one HandRanking, so lowball tables are generated and mapped just as high ones are
+ *
+ * Hands are indexed by their combination index (the sum of C(id, i) over their card ids in ascending order), so a
+ * lookup is a few bit scans and one read from the mapping. As the mapping is read only and shared, every JVM on a host
+ * reading the same file shares its pages through the OS page cache
+ *
+ * File layout, big endian: magic, format version, strength version, cards per hand, ranking ordinal, reserved (ints),
+ * entry count, CRC32 of the entries (longs), then one int strength per entry
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public final class MappedStrengthTable {
+    public static final int MAGIC = 0x50464C54;
+    public static final int FORMAT_VERSION = 2;
+
+    //bump whenever the packing of strengths changes, so tables from older builds are rejected
+    public static final int STRENGTH_VERSION = 1;
+
+    static final int HEADER_SIZE = 40;
+
+    private static final int MAX_CARDS = 7;
+    private static final int WRITE_BUFFER_SIZE = 1 << 20;
+
+    //binomial coefficients C(n, k) for n up to 52 and k up to 7
+    private static final int[][] BINOMIALS = new int[CardCodec.CARD_COUNT + 1][MAX_CARDS + 1];
+
+    static {
+        for (int n = 0; n <= CardCodec.CARD_COUNT; n++) {
+            BINOMIALS[n][0] = 1;
+            for (int k = 1; k <= Math.min(n, MAX_CARDS); k++) {
+                BINOMIALS[n][k] = BINOMIALS[n - 1][k - 1] + (k <= n - 1 ? BINOMIALS[n - 1][k] : 0);
+            }
+        }
+    }
+
+    private final MappedByteBuffer entries;
+    private final int cards;
+    private final HandRanking ranking;
+    private final int entryCount;
+    private final long checksum;
+
+    private MappedStrengthTable(MappedByteBuffer entries, int cards, HandRanking ranking, int entryCount, long checksum) {
+        this.entries = entries;
+        this.cards = cards;
+        this.ranking = ranking;
+        this.entryCount = entryCount;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Maps the table for the given number of cards, generating the file first if it does not exist
+     * The header is checked on every open, while the checksum is only checked when the file is generated or by verify
+     *
+     * @param file Path of the table file
+     * @param cards int cards per hand, from 5 to 7
+     * @return MappedStrengthTable
+     * @throws IOException when the file cannot be written or read, or is not a valid table for this build
+     */
+    public static MappedStrengthTable open(Path file, int cards) throws IOException {
+        return open(file, cards, HandRanking.HIGH);
+    }
+
+    /**
+     * Maps the table for the given number of cards and ranking, generating the file first if it does not exist
+     *
+     * @param file Path of the table file
+     * @param cards int cards per hand, within the ranking's range
+     * @param ranking HandRanking the strengths are ranked by
+     * @return MappedStrengthTable
+     * @throws IOException when the file cannot be written or read, or is not a valid table for this build
+     */
+    public static MappedStrengthTable open(Path file, int cards, HandRanking ranking) throws IOException {
+        if (!Files.exists(file)) {
+            generate(file, cards, ranking);
+        }
+        return map(file, cards, ranking);
+    }
+
+    /**
+     * Generates the table for the given number of cards into a file, replacing it atomically once complete
+     *
+     * @param file Path of the table file
+     * @param cards int cards per hand, from 5 to 7
+     * @throws IOException when the file cannot be written
+     */
+    public static void generate(Path file, int cards) throws IOException {
+        generate(file, cards, HandRanking.HIGH);
+    }
+
+    /**
+     * Generates the table for the given number of cards and ranking into a file, replacing it atomically once complete
+     *
+     * @param file Path of the table file
+     * @param cards int cards per hand, within the ranking's range
+     * @param ranking HandRanking the strengths are ranked by
+     * @throws IOException when the file cannot be written
+     */
+    public static void generate(Path file, int cards, HandRanking ranking) throws IOException {
+        checkCards(cards, ranking);
+        int entryCount = BINOMIALS[CardCodec.CARD_COUNT][cards];
+        Path absolute = file.toAbsolutePath();
+        //a plain sibling rather than a temp file, so the table keeps the default permissions and can be shared
+        Path temp = absolute.resolveSibling(absolute.getFileName() + "." + ProcessHandle.current().pid() + ".tmp");
+
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE).order(ByteOrder.BIG_ENDIAN);
+            CRC32 crc = new CRC32();
+            channel.position(HEADER_SIZE);
+
+            //Gosper's hack steps through masks with the same number of bits in increasing order, which is index order
+            long mask = (1L << cards) - 1;
+            for (int index = 0; index < entryCount; index++) {
+                buffer.putInt(strengthOf(mask, ranking));
+                if (!buffer.hasRemaining()) {
+                    flush(buffer, channel, crc);
+                }
+                long lowest = mask & -mask;
+                long ripple = mask + lowest;
+                mask = (((ripple ^ mask) >>> 2) / lowest) | ripple;
+            }
+            flush(buffer, channel, crc);
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.BIG_ENDIAN);
+            header.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(STRENGTH_VERSION).putInt(cards)
+                    .putInt(ranking.ordinal()).putInt(0).putLong(entryCount).putLong(crc.getValue()).flip();
+            channel.write(header, 0);
+            channel.force(true);
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(temp);
+            throw ex;
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Maps an existing table file read only, checking its header matches this build
+     *
+     * @param file Path of the table file
+     * @param cards int cards per hand expected, from 5 to 7
+     * @return MappedStrengthTable
+     * @throws IOException when the file cannot be read or is not a valid table for this build
+     */
+    public static MappedStrengthTable map(Path file, int cards) throws IOException {
+        return map(file, cards, HandRanking.HIGH);
+    }
+
+    /**
+     * Maps an existing table file read only, checking its header matches this build, the cards and the ranking
+     *
+     * @param file Path of the table file
+     * @param cards int cards per hand expected, within the ranking's range
+     * @param ranking HandRanking expected
+     * @return MappedStrengthTable
+     * @throws IOException when the file cannot be read or is not a valid table for this build
+     */
+    public static MappedStrengthTable map(Path file, int cards, HandRanking ranking) throws IOException {
+        checkCards(cards, ranking);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("Invalid Table File");
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.BIG_ENDIAN);
+            channel.read(header, 0);
+            header.flip();
+            if (header.getInt() != MAGIC || header.getInt() != FORMAT_VERSION) {
+                throw new IOException("Invalid Table File");
+            }
+            if (header.getInt() != STRENGTH_VERSION) {
+                throw new IOException("Table File Out Of Date");
+            }
+            int fileCards = header.getInt();
+            int fileRanking = header.getInt();
+            header.getInt();
+            long entryCount = header.getLong();
+            long checksum = header.getLong();
+            if (fileCards != cards || fileRanking != ranking.ordinal() || entryCount != BINOMIALS[CardCodec.CARD_COUNT][cards]
+                    || channel.size() != HEADER_SIZE + entryCount * Integer.BYTES) {
+                throw new IOException("Invalid Table File");
+            }
+
+            //the mapping stays valid once the channel is closed
+            MappedByteBuffer entries = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE, entryCount * Integer.BYTES);
+            return new MappedStrengthTable(entries, cards, ranking, (int) entryCount, checksum);
+        }
+    }
+
+    /**
+     * Gets the strength of a hand from the table
+     *
+     * @param mask long bitmask of the cards, which must hold exactly the table's number of cards
+     * @return int strength, as packed by the HandEvaluator or LowballEvaluator for the table's ranking
+     */
+    public int strength(long mask) {
+        return entries.getInt(index(mask) * Integer.BYTES);
+    }
+
+    /**
+     * Gets the number of cards per hand in the table
+     *
+     * @return int cards
+     */
+    public int getCards() {
+        return cards;
+    }
+
+    /**
+     * Gets the ranking the table's strengths are ranked by
+     *
+     * @return HandRanking ranking
+     */
+    public HandRanking getRanking() {
+        return ranking;
+    }
+
+    /**
+     * Recomputes the checksum of the mapped entries and compares it against the header
+     *
+     * @return boolean true when the entries are intact
+     */
+    public boolean verify() {
+        CRC32 crc = new CRC32();
+        crc.update(entries.duplicate().position(0).limit(entryCount * Integer.BYTES));
+        return crc.getValue() == checksum;
+    }
+
+    /**
+     * Gets the combination index of a card mask, the sum of C(id, i) over its card ids in ascending order
+     *
+     * @param mask long bitmask of the cards
+     * @return int index
+     */
+    static int index(long mask) {
+        int index = 0;
+        for (int i = 1; mask != 0; i++) {
+            index += BINOMIALS[Long.numberOfTrailingZeros(mask)][i];
+            mask &= mask - 1;
+        }
+        return index;
+    }
+
+    /**
+     * Utility method
+     * Evaluates a hand for the table under its ranking, with the five card evaluator when it can be used
+     */
+    private static int strengthOf(long mask, HandRanking ranking) {
+        return switch (ranking) {
+            case HIGH -> Long.bitCount(mask) == 5 ? HandEvaluator.strength(mask) : SevenCardEvaluator.strength(mask);
+            case ACE_TO_FIVE -> LowballEvaluator.aceToFive(mask);
+            case DEUCE_TO_SEVEN -> LowballEvaluator.deuceToSeven(mask);
+        };
+    }
+
+    /**
+     * Utility method
+     * Writes the buffered entries to the channel and adds them to the checksum
+     */
+    private static void flush(ByteBuffer buffer, FileChannel channel, CRC32 crc) throws IOException {
+        buffer.flip();
+        crc.update(buffer.duplicate());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static void checkCards(int cards, HandRanking ranking) {
+        if (cards < ranking.getMinCards() || cards > ranking.getMaxCards()) {
+            String range = ranking.getMinCards() == ranking.getMaxCards() ? String.valueOf(ranking.getMinCards())
+                    : ranking.getMinCards() + " to " + ranking.getMaxCards();
+            throw new IllegalArgumentException("A table must hold hands of " + range + " cards");
+        }
+    }
+}
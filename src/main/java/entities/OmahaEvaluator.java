@@ -0,0 +1,238 @@
+package entities;
+
+import enums.HandCategory;
+
+/**
+ * This class represents an Omaha evaluator, and contains functionality to determine the strength of the best five
+ * card hand made from exactly two of four hole cards and exactly three of the board cards, straight from their bitmasks
+ *
+ * Rather than evaluating all 60 two plus three combinations, flushes are found from the one suit that can make them
+ * (four hole cards can hold two of a suit at most twice, but five board cards only hold three of one suit once), and
+ * the rest are evaluated once per distinct pair and triple of ranks. A flush on an unpaired board is returned at once,
+ * as no full house or four of a kind can be made to beat it
+ *
+ * Strengths are packed as by the HandEvaluator, so an Omaha strength equals the strength of its best five cards
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public final class OmahaEvaluator {
+    public static final int HOLE_CARDS = 4;
+    public static final int MIN_BOARD_CARDS = 3;
+    public static final int MAX_BOARD_CARDS = 5;
+
+    private static final int HOLE_USED = 2;
+    private static final int BOARD_USED = 3;
+
+    private static final int RANK_COUNT = HandEvaluator.RANK_COUNT;
+    private static final int RANK_BITS = HandEvaluator.RANK_BITS;
+    private static final int ACE_VALUE = RANK_COUNT - 1;
+
+    private OmahaEvaluator() {
+    }
+
+    /**
+     * Determines the strength of the best hand using exactly two hole cards and exactly three board cards
+     *
+     * @param hole long bitmask of the four hole cards
+     * @param board long bitmask of the three to five board cards, none of them among the hole cards
+     * @return int strength, as packed by the HandEvaluator
+     */
+    public static int strength(long hole, long board) {
+        int best = flushStrength(hole, board);
+        if (HandEvaluator.categoryOf(best) >= HandEvaluator.STRAIGHT_FLUSH) {
+            return best;
+        }
+
+        int boardRanks = ranks(board);
+        //with no pair on the board only two ranks can pair up from the hole, so no full house or quads can beat a flush
+        if (best != 0 && Integer.bitCount(boardRanks) == Long.bitCount(board)) {
+            return best;
+        }
+
+        long[] holeCards = split(hole, HOLE_CARDS);
+        long[] boardCards = split(board, Long.bitCount(board));
+
+        //each distinct triple of board ranks, as a card mask and a rank count key
+        long[] triples = new long[10];
+        long[] tripleKeys = new long[10];
+        int tripleCount = 0;
+        for (int a = 0; a < boardCards.length; a++) {
+            for (int b = a + 1; b < boardCards.length; b++) {
+                for (int c = b + 1; c < boardCards.length; c++) {
+                    long triple = boardCards[a] | boardCards[b] | boardCards[c];
+                    long key = rankKey(boardCards[a]) + rankKey(boardCards[b]) + rankKey(boardCards[c]);
+                    if (!contains(tripleKeys, tripleCount, key)) {
+                        triples[tripleCount] = triple;
+                        tripleKeys[tripleCount++] = key;
+                    }
+                }
+            }
+        }
+
+        //the best of the seven cards a hole pair sees bounds every hand it can make, so pairs are tried from the
+        //highest bound down and the rest skipped once the bound cannot beat the best hand found
+        long[] pairs = new long[6];
+        int[] bounds = new int[6];
+        long[] pairKeys = new long[6];
+        int pairCount = 0;
+        for (int a = 0; a < HOLE_CARDS; a++) {
+            for (int b = a + 1; b < HOLE_CARDS; b++) {
+                //pairs of the same ranks make the same hands, apart from flushes which are already counted
+                long key = rankKey(holeCards[a]) + rankKey(holeCards[b]);
+                if (!contains(pairKeys, pairCount, key)) {
+                    pairKeys[pairCount] = key;
+                    pairs[pairCount] = holeCards[a] | holeCards[b];
+                    bounds[pairCount++] = SevenCardEvaluator.strength(holeCards[a] | holeCards[b] | board);
+                }
+            }
+        }
+
+        while (true) {
+            int next = 0;
+            for (int i = 1; i < pairCount; i++) {
+                if (bounds[i] > bounds[next]) {
+                    next = i;
+                }
+            }
+            if (bounds[next] <= best) {
+                return best;
+            }
+            for (int t = 0; t < tripleCount; t++) {
+                best = Math.max(best, HandEvaluator.strength(pairs[next] | triples[t]));
+            }
+            bounds[next] = 0;
+        }
+    }
+
+    /**
+     * Determines the category of the best hand using exactly two hole cards and exactly three board cards
+     *
+     * @param hole long bitmask of the four hole cards
+     * @param board long bitmask of the three to five board cards
+     * @return HandCategory
+     */
+    public static HandCategory evaluate(long hole, long board) {
+        return HandCategory.fromOrdinal(HandEvaluator.categoryOf(strength(hole, board)));
+    }
+
+    /**
+     * Determines the strength of the best hand using exactly two hole cards and exactly three board cards
+     *
+     * @param hole array of the four hole Cards
+     * @param board array of the three to five board Cards
+     * @return int strength, as packed by the HandEvaluator
+     */
+    public static int strength(Card[] hole, Card[] board) {
+        //check for invalid number of cards
+        if (hole.length != HOLE_CARDS) {
+            throw new IllegalArgumentException("An Omaha hand must contain " + HOLE_CARDS + " hole cards");
+        }
+        if (board.length < MIN_BOARD_CARDS || board.length > MAX_BOARD_CARDS) {
+            throw new IllegalArgumentException("An Omaha board must contain " + MIN_BOARD_CARDS + " to "
+                    + MAX_BOARD_CARDS + " cards");
+        }
+
+        long holeMask = CardCodec.mask(hole);
+        long boardMask = CardCodec.mask(board);
+        if (Long.bitCount(holeMask) != HOLE_CARDS || Long.bitCount(boardMask) != board.length
+                || (holeMask & boardMask) != 0) {
+            throw new IllegalArgumentException("Duplicate Card In Hand");
+        }
+        return strength(holeMask, boardMask);
+    }
+
+    /**
+     * Utility method
+     * Finds the best flush, straight flush or royal flush from two hole and three board cards of one suit
+     *
+     * @return int strength, or 0 when no suit has two hole cards and three board cards
+     */
+    private static int flushStrength(long hole, long board) {
+        for (int suit = 0; suit < CardCodec.SUIT_COUNT; suit++) {
+            int boardSuit = CardCodec.suitRanks(board, suit);
+            if (Integer.bitCount(boardSuit) < BOARD_USED) {
+                continue;
+            }
+            int holeSuit = CardCodec.suitRanks(hole, suit);
+            if (Integer.bitCount(holeSuit) < HOLE_USED) {
+                //only one suit can have three board cards
+                return 0;
+            }
+
+            int best = 0;
+            for (int pairs = holeSuit; pairs != 0; pairs &= pairs - 1) {
+                int first = pairs & -pairs;
+                for (int rest = pairs & (pairs - 1); rest != 0; rest &= rest - 1) {
+                    int pair = first | (rest & -rest);
+                    best = Math.max(best, bestFlushWith(pair, boardSuit));
+                }
+            }
+            return best;
+        }
+        return 0;
+    }
+
+    /**
+     * Utility method
+     * Finds the best flush made from a pair of hole ranks and any three of the board ranks of the same suit
+     */
+    private static int bestFlushWith(int pair, int boardSuit) {
+        int best = 0;
+        for (int a = boardSuit; a != 0; a &= a - 1) {
+            int first = a & -a;
+            for (int b = a & (a - 1); b != 0; b &= b - 1) {
+                int second = b & -b;
+                for (int c = b & (b - 1); c != 0; c &= c - 1) {
+                    int ranks = pair | first | second | (c & -c);
+                    int top = HandEvaluator.STRAIGHT_TOPS[ranks];
+                    int strength = top >= 0
+                            ? HandEvaluator.pack(top == ACE_VALUE ? HandEvaluator.ROYAL_FLUSH : HandEvaluator.STRAIGHT_FLUSH, top << 16)
+                            : HandEvaluator.pack(HandEvaluator.FLUSH, HandEvaluator.TOP_RANKS[ranks]);
+                    best = Math.max(best, strength);
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Utility method
+     * Gets the mask of every rank held in a card mask, whatever its suit
+     */
+    private static int ranks(long cards) {
+        return ((int) cards | (int) (cards >>> RANK_COUNT) | (int) (cards >>> (2 * RANK_COUNT))
+                | (int) (cards >>> (3 * RANK_COUNT))) & RANK_BITS;
+    }
+
+    /**
+     * Utility method
+     * Gets a key for the rank of a single card, two bits per rank, so that summing the keys of up to three cards
+     * counts each rank without carrying into the next
+     */
+    private static long rankKey(long card) {
+        return 1L << (2 * (Long.numberOfTrailingZeros(card) % RANK_COUNT));
+    }
+
+    /**
+     * Utility method
+     * Splits a card mask into a mask per card
+     */
+    private static long[] split(long cards, int count) {
+        long[] single = new long[count];
+        for (int i = 0; i < count; i++) {
+            single[i] = cards & -cards;
+            cards &= cards - 1;
+        }
+        return single;
+    }
+
+    private static boolean contains(long[] keys, int count, long key) {
+        for (int i = 0; i < count; i++) {
+            if (keys[i] == key) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
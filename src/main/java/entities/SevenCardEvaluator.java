@@ -0,0 +1,145 @@
+package entities;
+
+import enums.HandCategory;
+
+/**
+ * This class represents a seven card evaluator (as in Texas Hold'em), and contains functionality to determine the
+ * strength of the best five card hand within seven cards straight from their bitmask, without building the 21 five
+ * card subsets
+ *
+ * Strengths are packed as by the HandEvaluator, so a seven card strength equals the strength of its best five cards
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public final class SevenCardEvaluator {
+    public static final int HAND_SIZE = 7;
+
+    private static final int RANK_COUNT = HandEvaluator.RANK_COUNT;
+    private static final int RANK_BITS = HandEvaluator.RANK_BITS;
+    private static final int ACE_VALUE = RANK_COUNT - 1;
+
+    private SevenCardEvaluator() {
+    }
+
+    /**
+     * Determines the strength of the best five card hand within the given cards
+     * Any number of cards from five to seven may be given
+     *
+     * @param cards long bitmask of the cards
+     * @return int strength, as packed by the HandEvaluator
+     */
+    public static int strength(long cards) {
+        int s0 = (int) cards & RANK_BITS;
+        int s1 = (int) (cards >>> RANK_COUNT) & RANK_BITS;
+        int s2 = (int) (cards >>> (2 * RANK_COUNT)) & RANK_BITS;
+        int s3 = (int) (cards >>> (3 * RANK_COUNT)) & RANK_BITS;
+        int ranks = s0 | s1 | s2 | s3;
+
+        //with five of one suit among seven cards there are too few others left for quads or a full house
+        int flushRanks = Integer.bitCount(s0) >= 5 ? s0 : Integer.bitCount(s1) >= 5 ? s1
+                : Integer.bitCount(s2) >= 5 ? s2 : Integer.bitCount(s3) >= 5 ? s3 : 0;
+        if (flushRanks != 0) {
+            int top = HandEvaluator.STRAIGHT_TOPS[flushRanks];
+            if (top >= 0) {
+                return HandEvaluator.pack(top == ACE_VALUE ? HandEvaluator.ROYAL_FLUSH : HandEvaluator.STRAIGHT_FLUSH, top << 16);
+            }
+            return HandEvaluator.pack(HandEvaluator.FLUSH, HandEvaluator.TOP_RANKS[flushRanks]);
+        }
+
+        int quads = s0 & s1 & s2 & s3;
+        if (quads != 0) {
+            return HandEvaluator.pack(HandEvaluator.FOUR_OF_A_KIND,
+                    HandEvaluator.TOP_RANKS[quads] | HandEvaluator.TOP_RANKS[ranks ^ quads] >>> 4 & 0xF000);
+        }
+
+        int trips = s0 & s1 & s2 | s0 & s1 & s3 | s0 & s2 & s3 | s1 & s2 & s3;
+        int pairs = s0 & s1 | s0 & s2 | s0 & s3 | s1 & s2 | s1 & s3 | s2 & s3;
+        int topTrip = 0;
+        if (trips != 0) {
+            //a second set of trips plays as the pair of a full house
+            topTrip = topRankBit(trips);
+            int pairRanks = pairs ^ topTrip;
+            if (pairRanks != 0) {
+                return HandEvaluator.pack(HandEvaluator.FULL_HOUSE,
+                        HandEvaluator.TOP_RANKS[topTrip] | HandEvaluator.TOP_RANKS[pairRanks] >>> 4 & 0xF000);
+            }
+        }
+
+        int straightTop = HandEvaluator.STRAIGHT_TOPS[ranks];
+        if (straightTop >= 0) {
+            return HandEvaluator.pack(HandEvaluator.STRAIGHT, straightTop << 16);
+        }
+
+        if (topTrip != 0) {
+            return HandEvaluator.pack(HandEvaluator.THREE_OF_A_KIND,
+                    HandEvaluator.TOP_RANKS[topTrip] | HandEvaluator.TOP_RANKS[ranks ^ topTrip] >>> 4 & 0xFF00);
+        }
+
+        if (pairs != 0) {
+            int pairCount = Integer.bitCount(pairs);
+            if (pairCount == 1) {
+                return HandEvaluator.pack(HandEvaluator.ONE_PAIR,
+                        HandEvaluator.TOP_RANKS[pairs] | HandEvaluator.TOP_RANKS[ranks ^ pairs] >>> 4 & 0xFFF0);
+            }
+            //with three pairs the lowest can still play as the kicker
+            int topPairs = pairCount == 2 ? pairs : pairs ^ lowestRankBit(pairs);
+            return HandEvaluator.pack(HandEvaluator.TWO_PAIR,
+                    HandEvaluator.TOP_RANKS[topPairs] | HandEvaluator.TOP_RANKS[ranks ^ topPairs] >>> 8 & 0xF00);
+        }
+
+        return HandEvaluator.pack(HandEvaluator.HIGH_CARD, HandEvaluator.TOP_RANKS[ranks]);
+    }
+
+    /**
+     * Determines the category of the best five card hand within the given cards
+     *
+     * @param cards long bitmask of the cards
+     * @return HandCategory
+     */
+    public static HandCategory evaluate(long cards) {
+        return HandCategory.fromOrdinal(HandEvaluator.categoryOf(strength(cards)));
+    }
+
+    /**
+     * Determines the strength of the best five card hand within seven cards (varargs)
+     *
+     * @param cards array of Card
+     * @return int strength, as packed by the HandEvaluator
+     */
+    public static int strength(Card... cards) {
+        //check for invalid number of cards
+        if (cards.length != HAND_SIZE) {
+            throw new IllegalArgumentException("A hand must contain " + HAND_SIZE + " cards");
+        }
+
+        long mask = CardCodec.mask(cards);
+        if (Long.bitCount(mask) != HAND_SIZE) {
+            throw new IllegalArgumentException("Duplicate Card In Hand");
+        }
+        return strength(mask);
+    }
+
+    /**
+     * Utility method
+     * Gets the bit of the highest rank in a rank mask, where the ace (bit 0) ranks highest
+     *
+     * @param ranks int mask of rank ordinals
+     * @return int single bit rank mask
+     */
+    private static int topRankBit(int ranks) {
+        return (ranks & 1) != 0 ? 1 : Integer.highestOneBit(ranks);
+    }
+
+    /**
+     * Utility method
+     * Gets the bit of the lowest rank in a rank mask, where the ace (bit 0) ranks highest
+     *
+     * @param ranks int mask of rank ordinals
+     * @return int single bit rank mask
+     */
+    private static int lowestRankBit(int ranks) {
+        int withoutAce = ranks & ~1;
+        return withoutAce != 0 ? Integer.lowestOneBit(withoutAce) : 1;
+    }
+}
@@ -0,0 +1,157 @@
+package entities;
+
+/**
+ * This class represents the suit isomorphism of card sets, and contains functionality to map a card mask to a
+ * canonical form shared by every set that differs from it only by relabelling the four suits, and back again
+ *
+ * Suits are relabelled in descending order of their number of cards, then of their rank mask, so the fullest suit
+ * always becomes the first suit. Hand strength and equity are unchanged by relabelling, so canonical masks can key
+ * tables and caches with up to 24 times fewer entries
+ *
+ * A permutation is packed into an int, two bits per suit, holding the suit ordinal each suit ordinal is mapped to
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public final class SuitCanonicalizer {
+    public static final int IDENTITY = 0b11_10_01_00;
+
+    private static final int SUIT_BITS = 2;
+    private static final int SUIT_MASK = 0b11;
+    private static final int RANKS = (1 << CardCodec.RANK_COUNT) - 1;
+
+    private SuitCanonicalizer() {
+    }
+
+    /**
+     * Gets the canonical form of a card mask
+     *
+     * @param mask long bitmask of the cards
+     * @return long canonical mask, holding the same ranks and number of cards in each suit group
+     */
+    public static long canonicalize(long mask) {
+        return permute(mask, permutation(mask));
+    }
+
+    /**
+     * Checks whether a card mask is already in canonical form
+     *
+     * @param mask long bitmask of the cards
+     * @return boolean
+     */
+    public static boolean isCanonical(long mask) {
+        return canonicalize(mask) == mask;
+    }
+
+    /**
+     * Gets the permutation taking a card mask to its canonical form
+     *
+     * @param mask long bitmask of the cards
+     * @return int packed permutation
+     */
+    public static int permutation(long mask) {
+        long[] keys = new long[CardCodec.SUIT_COUNT];
+        for (int suit = 0; suit < keys.length; suit++) {
+            int ranks = CardCodec.suitRanks(mask, suit);
+            keys[suit] = (long) Integer.bitCount(ranks) << CardCodec.RANK_COUNT | ranks;
+        }
+        return sortedPermutation(keys, null, 0);
+    }
+
+    /**
+     * Gets the permutation taking several card masks to a joint canonical form, such as a board and each player's
+     * hole cards, so that the sets keep their relation to each other when the suits are relabelled
+     * Suits are ordered by the first mask, with ties broken by each following mask in turn
+     *
+     * @param masks long[] bitmasks of each card set, in order of precedence
+     * @return int packed permutation
+     */
+    public static int permutation(long... masks) {
+        long[] keys = new long[CardCodec.SUIT_COUNT];
+        for (int suit = 0; suit < keys.length; suit++) {
+            int ranks = masks.length == 0 ? 0 : CardCodec.suitRanks(masks[0], suit);
+            keys[suit] = (long) Integer.bitCount(ranks) << CardCodec.RANK_COUNT | ranks;
+        }
+        return sortedPermutation(keys, masks, 1);
+    }
+
+    /**
+     * Relabels the suits of a card mask
+     *
+     * @param mask long bitmask of the cards
+     * @param permutation int packed permutation
+     * @return long relabelled mask
+     */
+    public static long permute(long mask, int permutation) {
+        long result = 0L;
+        for (int suit = 0; suit < CardCodec.SUIT_COUNT; suit++) {
+            long ranks = (mask >>> (suit * CardCodec.RANK_COUNT)) & RANKS;
+            result |= ranks << (target(permutation, suit) * CardCodec.RANK_COUNT);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the permutation undoing the given permutation, taking a canonical mask back to the original suits
+     *
+     * @param permutation int packed permutation
+     * @return int packed inverse permutation
+     */
+    public static int inverse(int permutation) {
+        int inverse = 0;
+        for (int suit = 0; suit < CardCodec.SUIT_COUNT; suit++) {
+            inverse |= suit << (target(permutation, suit) * SUIT_BITS);
+        }
+        return inverse;
+    }
+
+    /**
+     * Gets the suit ordinal a suit ordinal is mapped to by a permutation
+     *
+     * @param permutation int packed permutation
+     * @param suit int suit ordinal
+     * @return int mapped suit ordinal
+     */
+    public static int target(int permutation, int suit) {
+        return (permutation >>> (suit * SUIT_BITS)) & SUIT_MASK;
+    }
+
+    /**
+     * Utility method
+     * Sorts the suits by descending key, breaking ties by the rank masks of the following masks in turn, and packs
+     * each suit's position in that order. Suits that still tie hold the same cards in every mask, so either order
+     * gives the same canonical form
+     *
+     * @return int packed permutation
+     */
+    private static int sortedPermutation(long[] keys, long[] masks, int from) {
+        int[] order = {0, 1, 2, 3};
+        for (int i = 1; i < order.length; i++) {
+            int suit = order[i];
+            int j = i - 1;
+            while (j >= 0 && compare(keys, masks, from, suit, order[j]) > 0) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = suit;
+        }
+
+        int permutation = 0;
+        for (int position = 0; position < order.length; position++) {
+            permutation |= position << (order[position] * SUIT_BITS);
+        }
+        return permutation;
+    }
+
+    /**
+     * Utility method
+     * Compares two suits by key, then by their rank masks in each following mask
+     */
+    private static int compare(long[] keys, long[] masks, int from, int first, int second) {
+        int result = Long.compare(keys[first], keys[second]);
+        for (int i = from; result == 0 && masks != null && i < masks.length; i++) {
+            result = Integer.compare(CardCodec.suitRanks(masks[i], first), CardCodec.suitRanks(masks[i], second));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,30 @@
+package enums;
+
+/**
+ * This enum represents the policy an EvaluationCache uses to choose which entry of a full bucket to replace
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public enum EvictionPolicy {
+    //second chance: a hit marks an entry, and the bucket's clock hand replaces the first unmarked entry it passes
+    CLOCK,
+
+    //approximate least recently used: a hit stamps an entry with a tick, and the oldest stamp is replaced
+    LRU;
+
+    /**
+     * Gets the policy with the given name, ignoring case
+     *
+     * @param name String policy name ("clock" or "lru")
+     * @return EvictionPolicy
+     */
+    public static EvictionPolicy fromName(String name) {
+        for (EvictionPolicy policy : values()) {
+            if (policy.name().equalsIgnoreCase(name)) {
+                return policy;
+            }
+        }
+        throw new IllegalArgumentException("Invalid Eviction Policy");
+    }
+}
@@ -0,0 +1,56 @@
+package enums;
+
+/**
+ * This enum represents the category of a hand, ordered from weakest to strongest so ordinals can be compared and
+ * used to index arrays (for example a histogram of int[HandCategory.COUNT])
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public enum HandCategory {
+    HIGH_CARD("High Card"),
+    ONE_PAIR("One Pair"),
+    TWO_PAIR("Two Pair"),
+    THREE_OF_A_KIND("Three of a Kind"),
+    STRAIGHT("Straight"),
+    FLUSH("Flush"),
+    FULL_HOUSE("Full House"),
+    FOUR_OF_A_KIND("Four of a Kind"),
+    STRAIGHT_FLUSH("Straight Flush"),
+    ROYAL_FLUSH("Royal Flush");
+
+    public static final int COUNT = values().length;
+
+    private static final HandCategory[] VALUES = values();
+
+    private final String displayName;
+
+    /**
+     * Method accepts a display name for the category
+     *
+     * @param displayName String
+     */
+    HandCategory(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Returns the display name of the category
+     *
+     * @return String displayName
+     */
+    @Override
+    public String toString() {
+        return displayName;
+    }
+
+    /**
+     * Gets the category with the given ordinal, without copying the values array
+     *
+     * @param ordinal int ordinal, from 0 for HIGH_CARD
+     * @return HandCategory
+     */
+    public static HandCategory fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
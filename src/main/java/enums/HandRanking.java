@@ -0,0 +1,65 @@
+package enums;
+
+/**
+ * This enum represents the rules a hand is ranked by, and which evaluator and strength table apply
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public enum HandRanking {
+    //the usual high hand, as ranked by the HandEvaluator
+    HIGH(5, 7),
+
+    //lowball where aces are low and straights and flushes do not count, so ace to five is the best hand
+    ACE_TO_FIVE(5, 7),
+
+    //lowball where aces are high and straights and flushes count against the hand, so 7-5-4-3-2 is the best hand
+    DEUCE_TO_SEVEN(5, 5);
+
+    private final int minCards;
+    private final int maxCards;
+
+    /**
+     * Method accepts the fewest and most cards a hand may be ranked from
+     *
+     * @param minCards int
+     * @param maxCards int
+     */
+    HandRanking(int minCards, int maxCards) {
+        this.minCards = minCards;
+        this.maxCards = maxCards;
+    }
+
+    /**
+     * Gets the fewest cards a hand may be ranked from
+     *
+     * @return int minCards
+     */
+    public int getMinCards() {
+        return minCards;
+    }
+
+    /**
+     * Gets the most cards a hand may be ranked from, the best five of which play
+     *
+     * @return int maxCards
+     */
+    public int getMaxCards() {
+        return maxCards;
+    }
+
+    /**
+     * Gets the ranking with the given name, ignoring case and with dashes for underscores ("deuce-to-seven")
+     *
+     * @param name String ranking name ("high", "ace-to-five" or "deuce-to-seven")
+     * @return HandRanking
+     */
+    public static HandRanking fromName(String name) {
+        for (HandRanking ranking : values()) {
+            if (ranking.name().replace('_', '-').equalsIgnoreCase(name)) {
+                return ranking;
+            }
+        }
+        throw new IllegalArgumentException("Invalid Hand Ranking");
+    }
+}
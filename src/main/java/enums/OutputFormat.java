@@ -0,0 +1,36 @@
+package enums;
+
+/**
+ * This enum represents the format results are written in by a HandSink
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public enum OutputFormat {
+    //each hand in its original card order and its name ("QC JC KC AC TC => Royal Flush"), one per line
+    TEXT,
+
+    //a header line, then "hand,category,score" per hand, where a higher score is a stronger hand
+    CSV,
+
+    //blocks of a category byte array followed by a big endian score int array
+    BINARY,
+
+    //only the number of hands in each category, written once at the end
+    SUMMARY;
+
+    /**
+     * Gets the format with the given name, ignoring case
+     *
+     * @param name String format name ("text", "csv", "binary" or "summary")
+     * @return OutputFormat
+     */
+    public static OutputFormat fromName(String name) {
+        for (OutputFormat format : values()) {
+            if (format.name().equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Invalid Output Format");
+    }
+}
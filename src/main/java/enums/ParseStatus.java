@@ -0,0 +1,48 @@
+package enums;
+
+/**
+ * This enum represents the outcome of parsing a coded hand line without throwing, being a valid hand, a blank line,
+ * or the reason the line was rejected, including those only a showdown line of several hands can have
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public enum ParseStatus {
+    VALID(null),
+    BLANK(null),
+    INVALID_CARD_CODE("Invalid Card Code"),
+    INVALID_CARD("Invalid Card"),
+    WRONG_CARD_COUNT("A hand must contain 5 cards"),
+    DUPLICATE_CARD("Duplicate Card In Hand"),
+    TOO_FEW_HANDS("A showdown must contain at least 2 hands"),
+    SHARED_CARD("Duplicate Card In Showdown");
+
+    private final String message;
+
+    /**
+     * Method accepts the message of the exception the throwing parsers raise for this outcome
+     *
+     * @param message String, or null when the line is not rejected
+     */
+    ParseStatus(String message) {
+        this.message = message;
+    }
+
+    /**
+     * Gets the message describing why the line was rejected
+     *
+     * @return String message, or null when the line is not rejected
+     */
+    public String message() {
+        return message;
+    }
+
+    /**
+     * Checks whether the line was rejected
+     *
+     * @return boolean
+     */
+    public boolean isError() {
+        return message != null;
+    }
+}
@@ -0,0 +1,43 @@
+package enums;
+
+/**
+ * This enum represents a stage of evaluating a hand file, in the order each line passes through them
+ *
+ * The line by line mode builds no Card or Hand objects, so the stages time the code that does their work instead:
+ * FILE_READ is BufferedReader.readLine, PARSE is HandParser.tryParseLine turning the card codes into card ids and
+ * checking the card count and duplicates as the Hand constructor would, CONSTRUCT is HandParser.toMask building the
+ * card mask that stands in for the Hand, EVALUATE is HandEvaluator.strength on that mask, and FORMAT is HandSink.write
+ * including any flush of its buffer to the output. A line with the wrong number of cards or a duplicate card is
+ * counted as an error of CONSTRUCT, although it is found, and timed, within PARSE
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public enum PipelineStage {
+    FILE_READ("File Read"),
+    PARSE("Parse"),
+    CONSTRUCT("Construct"),
+    EVALUATE("Evaluate"),
+    FORMAT("Format");
+
+    private final String displayName;
+
+    /**
+     * Method accepts a display name for the stage
+     *
+     * @param displayName String
+     */
+    PipelineStage(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Gets the display name of the stage
+     *
+     * @return String display name
+     */
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
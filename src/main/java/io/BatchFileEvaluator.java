@@ -0,0 +1,234 @@
+package io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.FileSystemException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+/**
+ * This class represents a batch evaluator for many hand files, and contains functionality to find the files in a
+ * directory or matching a glob, and to evaluate each into its own output file
+ *
+ * Each file is read and written on an I/O executor, while its hands are evaluated on a bounded fork join pool, so
+ * thousands of small files keep the cores busy without a thread per core blocking on the disk. A file that fails is
+ * recorded in the summary and does not stop the rest of the batch, and a file whose output would overwrite that of an
+ * earlier file in the batch fails without being read
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public final class BatchFileEvaluator {
+    public static final String OUTPUT_SUFFIX = ".out";
+
+    private static final String GLOB_CHARS = "*?[{";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private BatchFileEvaluator() {
+    }
+
+    /**
+     * Finds the hand files named by a directory, a glob ("hands/2024-*.txt" or "hands/**.txt") or a single file
+     * A directory gives every regular file directly within it, and output files from an earlier batch are skipped
+     *
+     * @param pattern String directory, glob or file
+     * @return List of files, sorted by path
+     * @throws IOException when the directory cannot be listed
+     */
+    public static List<Path> findFiles(String pattern) throws IOException {
+        int glob = firstGlobChar(pattern);
+        Stream<Path> candidates;
+        PathMatcher matcher;
+        if (glob < 0) {
+            Path path = Path.of(pattern);
+            if (!Files.isDirectory(path)) {
+                return List.of(path);
+            }
+            candidates = Files.list(path);
+            matcher = file -> true;
+        } else {
+            int separator = Math.max(pattern.lastIndexOf('/', glob), pattern.lastIndexOf('\\', glob));
+            Path base = Path.of(separator < 0 ? "." : pattern.substring(0, separator + 1));
+            PathMatcher relative = FileSystems.getDefault().getPathMatcher("glob:" + pattern.substring(separator + 1));
+            candidates = Files.walk(base);
+            matcher = file -> relative.matches(base.relativize(file));
+        }
+
+        try (Stream<Path> files = candidates) {
+            return files.filter(Files::isRegularFile)
+                    .filter(matcher::matches)
+                    .filter(file -> !file.getFileName().toString().endsWith(OUTPUT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * Evaluates every file, writing the results of each to a file of the same name with OUTPUT_SUFFIX added
+     * Files of the same name from different directories would share an output file under outputDirectory, so only the
+     * first of them is evaluated and the rest fail, naming the file whose output they would overwrite
+     * At most twice the pool parallelism files are in flight, so the I/O executor never holds more open files or
+     * buffers than the pool can keep up with, however many files there are
+     *
+     * @param files List of hand files
+     * @param outputDirectory Path to write output files to, or null to write each beside its input
+     * @param pool ForkJoinPool to evaluate hands on
+     * @param io ExecutorService to read and write files on
+     * @return BatchSummary result of each file, in the order given
+     */
+    public static BatchSummary evaluate(List<Path> files, Path outputDirectory, ForkJoinPool pool, ExecutorService io) {
+        return evaluate(files, outputDirectory, pool, io, pool.getParallelism() * 2);
+    }
+
+    /**
+     * Evaluates every file with at most the given number of files in flight
+     *
+     * @param files List of hand files
+     * @param outputDirectory Path to write output files to, or null to write each beside its input
+     * @param pool ForkJoinPool to evaluate hands on
+     * @param io ExecutorService to read and write files on
+     * @param maxInFlight int most files read, evaluated or written at once
+     * @return BatchSummary result of each file, in the order given
+     */
+    static BatchSummary evaluate(List<Path> files, Path outputDirectory, ForkJoinPool pool, ExecutorService io,
+                                 int maxInFlight) {
+        long start = System.nanoTime();
+        Semaphore permits = new Semaphore(maxInFlight);
+        List<CompletableFuture<BatchSummary.FileResult>> tasks = new ArrayList<>(files.size());
+        Map<Path, Path> writers = new HashMap<>();
+        for (Path file : files) {
+            Path output = outputFile(file, outputDirectory);
+            Path writer = writers.putIfAbsent(output.toAbsolutePath().normalize(), file);
+            if (writer != null) {
+                tasks.add(CompletableFuture.completedFuture(new BatchSummary.FileResult(file, output, 0,
+                        "Output " + output + " is already written for " + writer)));
+                continue;
+            }
+            //wait for a file to finish before starting another once maxInFlight are running
+            permits.acquireUninterruptibly();
+            tasks.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return evaluateFile(file, output, pool);
+                } finally {
+                    permits.release();
+                }
+            }, io));
+        }
+
+        List<BatchSummary.FileResult> results = new ArrayList<>(files.size());
+        for (CompletableFuture<BatchSummary.FileResult> task : tasks) {
+            results.add(task.join());
+        }
+        return new BatchSummary(results, System.nanoTime() - start);
+    }
+
+    /**
+     * Gets the output file for an input file
+     *
+     * @param file Path of the hand file
+     * @param outputDirectory Path to write output files to, or null to write beside the input
+     * @return Path of the output file
+     */
+    static Path outputFile(Path file, Path outputDirectory) {
+        String name = file.getFileName() + OUTPUT_SUFFIX;
+        return outputDirectory == null ? file.resolveSibling(name) : outputDirectory.resolve(name);
+    }
+
+    /**
+     * Utility method
+     * Evaluates one file, running on an I/O thread and handing the evaluation to the pool
+     * Files larger than a chunk go through the MappedHandFileEvaluator so they are split across the pool. Results are
+     * written to a temporary file beside the output and moved into place once complete, so a file that fails part way
+     * leaves no partial output behind
+     *
+     * @return BatchSummary.FileResult hands written, or the error that failed the file
+     */
+    private static BatchSummary.FileResult evaluateFile(Path file, Path output, ForkJoinPool pool) {
+        try {
+            boolean large = Files.size(file) > MappedHandFileEvaluator.DEFAULT_CHUNK_SIZE;
+            Path temporary = Files.createTempFile(output.toAbsolutePath().getParent(), output.getFileName().toString(),
+                    TEMPORARY_SUFFIX);
+            try {
+                long hands;
+                try (OutputStream stream = Files.newOutputStream(temporary)) {
+                    if (large) {
+                        hands = MappedHandFileEvaluator.evaluate(file, stream, pool);
+                    } else {
+                        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file));
+                        hands = CompletableFuture
+                                .supplyAsync(() -> MappedHandFileEvaluator.evaluateChunk(bytes, null, false), pool)
+                                .join()
+                                .writeTo(stream, null, 0);
+                    }
+                }
+                Files.move(temporary, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                return new BatchSummary.FileResult(file, output, hands, null);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (CompletionException ex) {
+            return new BatchSummary.FileResult(file, output, 0, message(ex.getCause()));
+        } catch (IOException | RuntimeException ex) {
+            return new BatchSummary.FileResult(file, output, 0, message(ex));
+        }
+    }
+
+    /**
+     * Utility method
+     * Describes an exception for the summary, falling back to its type when it has no message
+     * File system exceptions carry only the path as their message, so they are described by type, path and reason
+     */
+    private static String message(Throwable ex) {
+        if (ex instanceof FileSystemException fileException) {
+            return fileException.getClass().getSimpleName() + ": " + fileException.getFile() + " ("
+                    + reason(fileException) + ")";
+        }
+        return ex.getMessage() == null ? ex.toString() : ex.getMessage();
+    }
+
+    /**
+     * Utility method
+     * Gets the reason a file system operation failed, naming the common failures that give no reason of their own
+     */
+    private static String reason(FileSystemException ex) {
+        if (ex.getReason() != null) {
+            return ex.getReason();
+        } else if (ex instanceof NoSuchFileException) {
+            return "no such file";
+        } else if (ex instanceof AccessDeniedException) {
+            return "access denied";
+        }
+        return "file system error";
+    }
+
+    /**
+     * Utility method
+     * Finds the first glob character in a pattern
+     *
+     * @return int index, or -1 when the pattern holds none
+     */
+    private static int firstGlobChar(String pattern) {
+        for (int i = 0; i < pattern.length(); i++) {
+            if (GLOB_CHARS.indexOf(pattern.charAt(i)) >= 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,47 @@
+package io;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * This record represents the outcome of evaluating a batch of hand files, holding the result of each file in input
+ * order and the time the batch took
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public record BatchSummary(List<FileResult> results, long elapsedNanos) {
+
+    /**
+     * Gets the number of hands evaluated across every file
+     *
+     * @return long hands
+     */
+    public long hands() {
+        return results.stream().mapToLong(FileResult::hands).sum();
+    }
+
+    /**
+     * Gets the number of files that could not be evaluated
+     *
+     * @return long failed files
+     */
+    public long failed() {
+        return results.stream().filter(FileResult::failed).count();
+    }
+
+    /**
+     * This record represents the outcome of one file: its output file and number of hands, or the error that failed it
+     */
+    public record FileResult(Path input, Path output, long hands, String error) {
+
+        /**
+         * Checks whether the file failed, in which case its output may be missing or incomplete
+         *
+         * @return boolean
+         */
+        public boolean failed() {
+            return error != null;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This class represents the layout of a binary hand file, and contains functionality to write and check its header
+ *
+ * A binary hand file is a header of magic, format version (ints) and record count (long), big endian, followed by one
+ * fixed width record per hand holding its RECORD_SIZE card ids (0 to 51, as encoded by the CardCodec) in the order
+ * they appeared in the text line. A hand takes 5 bytes rather than 15 or more of text, and needs no parsing to read
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public final class BinaryHandFormat {
+    public static final int MAGIC = 0x50464842;
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 16;
+    public static final int RECORD_SIZE = 5;
+
+    private BinaryHandFormat() {
+    }
+
+    /**
+     * Checks whether a file starts with the binary hand file magic, so it can be told apart from a text hand file
+     *
+     * @param file Path of the file
+     * @return boolean
+     * @throws IOException when the file cannot be read
+     */
+    public static boolean isBinary(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer magic = ByteBuffer.allocate(Integer.BYTES);
+            return channel.read(magic, 0) == Integer.BYTES && magic.getInt(0) == MAGIC;
+        }
+    }
+
+    /**
+     * Builds the header for the given number of records
+     *
+     * @param records long record count
+     * @return ByteBuffer header, ready to write
+     */
+    static ByteBuffer header(long records) {
+        return ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.BIG_ENDIAN)
+                .putInt(MAGIC).putInt(VERSION).putLong(records).flip();
+    }
+
+    /**
+     * Reads and checks the header of a binary hand file, including that its size matches the record count
+     *
+     * @param channel FileChannel of the file
+     * @return long record count
+     * @throws IOException when the file cannot be read or is not a valid binary hand file
+     */
+    static long readHeader(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.BIG_ENDIAN);
+        if (channel.read(header, 0) != HEADER_SIZE || header.getInt(0) != MAGIC) {
+            throw new IOException("Invalid Binary Hand File");
+        }
+        if (header.getInt(Integer.BYTES) != VERSION) {
+            throw new IOException("Unsupported Binary Hand File Version");
+        }
+        long records = header.getLong(Integer.BYTES * 2);
+        if (records < 0 || channel.size() != HEADER_SIZE + records * RECORD_SIZE) {
+            throw new IOException("Invalid Binary Hand File");
+        }
+        return records;
+    }
+
+    /**
+     * Reads the record count of a binary hand file
+     *
+     * @param file Path of the file
+     * @return long record count
+     * @throws IOException when the file cannot be read or is not a valid binary hand file
+     */
+    public static long recordCount(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return readHeader(channel);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package io;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This class represents a streaming reader of binary hand files, and contains functionality to read the hands in
+ * order, one record at a time, through a buffer
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public final class BinaryHandReader implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final InputStream input;
+    private final long records;
+    private final byte[] record = new byte[BinaryHandFormat.RECORD_SIZE];
+    private long read;
+
+    /**
+     * Method accepts the file to read, checking its header
+     *
+     * @param file Path of the binary hand file
+     * @throws IOException when the file cannot be read or is not a valid binary hand file
+     */
+    public BinaryHandReader(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            this.records = BinaryHandFormat.readHeader(channel);
+            channel.position(BinaryHandFormat.HEADER_SIZE);
+        } catch (IOException ex) {
+            channel.close();
+            throw ex;
+        }
+        this.input = new BufferedInputStream(Channels.newInputStream(channel), BUFFER_SIZE);
+    }
+
+    /**
+     * Gets the number of hands in the file
+     *
+     * @return long records
+     */
+    public long records() {
+        return records;
+    }
+
+    /**
+     * Reads the next hand
+     *
+     * @param ids int[] of at least RECORD_SIZE to write the card ids into, in line order
+     * @return boolean false once every hand has been read
+     * @throws IOException when the file cannot be read
+     */
+    public boolean next(int[] ids) throws IOException {
+        if (read == records) {
+            return false;
+        }
+        if (input.readNBytes(record, 0, record.length) != record.length) {
+            throw new EOFException("Binary Hand File Truncated");
+        }
+        for (int i = 0; i < record.length; i++) {
+            ids[i] = record[i];
+        }
+        read++;
+        return true;
+    }
+
+    /**
+     * Closes the file
+     *
+     * @throws IOException when the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+}
@@ -0,0 +1,147 @@
+package io;
+
+import entities.HandParser;
+import enums.ParseStatus;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * This class represents a writer of binary hand files, and contains functionality to append hands as records and to
+ * convert a text hand file into a binary one
+ *
+ * The header is written with a record count of 0 and filled in on close, so a file that was not closed cleanly is
+ * rejected by the readers rather than read short
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public final class BinaryHandWriter implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final OutputStream output;
+    private final byte[] record = new byte[BinaryHandFormat.RECORD_SIZE];
+    private long records;
+
+    /**
+     * Method accepts the file to write, replacing any file already there
+     *
+     * @param file Path of the binary hand file
+     * @throws IOException when the file cannot be created
+     */
+    public BinaryHandWriter(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        channel.write(BinaryHandFormat.header(0));
+        this.output = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+    }
+
+    /**
+     * Appends a hand
+     *
+     * @param ids int[] of RECORD_SIZE card ids, in line order
+     * @throws IOException when the file cannot be written
+     */
+    public void write(int[] ids) throws IOException {
+        for (int i = 0; i < record.length; i++) {
+            record[i] = (byte) ids[i];
+        }
+        output.write(record);
+        records++;
+    }
+
+    /**
+     * Gets the number of hands written so far
+     *
+     * @return long records
+     */
+    public long records() {
+        return records;
+    }
+
+    /**
+     * Writes the record count into the header and closes the file
+     *
+     * @throws IOException when the file cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        try (channel) {
+            output.flush();
+            channel.write(BinaryHandFormat.header(records), 0);
+        }
+    }
+
+    /**
+     * Converts a text hand file, one hand per line, into a binary hand file
+     * Blank lines are skipped, and bad lines either fail the conversion with their line number, leaving no binary file,
+     * or are written to the rejects
+     *
+     * @param text Path of the text hand file
+     * @param binary Path of the binary hand file to write
+     * @param rejects RejectWriter to record bad lines in, or null to fail on the first bad line
+     * @return long number of hands written
+     * @throws IOException when either file cannot be read or written
+     */
+    public static long convert(Path text, Path binary, RejectWriter rejects) throws IOException {
+        int[] ids = new int[HandParser.HAND_SIZE];
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int start = 0;
+        int end = 0;
+        long lineNumber = 0;
+        boolean eof = false;
+
+        try (InputStream input = Files.newInputStream(text); BinaryHandWriter writer = new BinaryHandWriter(binary)) {
+            while (true) {
+                int lineEnd = start;
+                while (lineEnd < end && buffer[lineEnd] != '\n') {
+                    lineEnd++;
+                }
+                if (lineEnd == end && !eof) {
+                    //no whole line left in the buffer, so keep the partial line and read more after it
+                    System.arraycopy(buffer, start, buffer, 0, end - start);
+                    end -= start;
+                    start = 0;
+                    if (end == buffer.length) {
+                        buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                    }
+                    int read = input.read(buffer, end, buffer.length - end);
+                    if (read < 0) {
+                        eof = true;
+                    } else {
+                        end += read;
+                    }
+                    continue;
+                }
+                if (start == end && eof) {
+                    return writer.records();
+                }
+
+                lineNumber++;
+                ParseStatus status = HandParser.tryParseLine(buffer, start, lineEnd, ids);
+                if (status == ParseStatus.VALID) {
+                    writer.write(ids);
+                } else if (status.isError()) {
+                    if (rejects == null) {
+                        throw new IllegalArgumentException("Line " + lineNumber + ": " + status.message());
+                    }
+                    rejects.reject(lineNumber, status, buffer, start, lineEnd);
+                }
+                start = Math.min(lineEnd + 1, end);
+            }
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(binary);
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package io;
+
+import entities.HandEvaluator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * This class represents a sink writing results as arrays, for callers that load them straight into columns
+ *
+ * The output is a header of MAGIC and VERSION, then blocks of up to BLOCK_SIZE hands, each a count followed by that
+ * many category bytes (HandCategory ordinals) and that many scores, then a block with a count of 0 marking the end.
+ * Every int is big endian
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+final class BinaryResultSink extends HandSink {
+    static final int MAGIC = 0x50465253;
+    static final int VERSION = 1;
+    static final int BLOCK_SIZE = 1 << 16;
+
+    private final byte[] categories = new byte[BLOCK_SIZE];
+    private final int[] strengths = new int[BLOCK_SIZE];
+    private int pending;
+    private boolean started;
+
+    BinaryResultSink(OutputStream output) {
+        super(output);
+    }
+
+    @Override
+    void append(int[] ids, int strength) throws IOException {
+        categories[pending] = (byte) HandEvaluator.categoryOf(strength);
+        strengths[pending] = strength;
+        if (++pending == BLOCK_SIZE) {
+            putBlock();
+        }
+    }
+
+    @Override
+    void end() throws IOException {
+        if (pending > 0) {
+            putBlock();
+        }
+        putBlock();
+    }
+
+    /**
+     * Utility method
+     * Puts the pending hands as a block, after the header if it is the first
+     */
+    private void putBlock() throws IOException {
+        if (!started) {
+            reserve(Integer.BYTES * 2);
+            putInt(MAGIC);
+            putInt(VERSION);
+            started = true;
+        }
+        reserve(Integer.BYTES + pending * (1 + Integer.BYTES));
+        putInt(pending);
+        put(categories, 0, pending);
+        for (int i = 0; i < pending; i++) {
+            putInt(strengths[i]);
+        }
+        pending = 0;
+    }
+}
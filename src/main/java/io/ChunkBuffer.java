@@ -0,0 +1,111 @@
+package io;
+
+import enums.ParseStatus;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class represents the results of a chunk of a file evaluated on its own, and contains functionality to build
+ * them in a growable byte array, keep copies of the bad lines of the chunk, and write both once the chunks before it
+ * have been written
+ *
+ * Line numbers are counted from the start of the chunk, and are numbered from the start of the file when written
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+abstract class ChunkBuffer {
+    byte[] bytes;
+    int length;
+    long lines;
+    private List<Reject> rejects;
+
+    /**
+     * Method accepts the expected size of the results, which grow as needed
+     *
+     * @param capacity int initial capacity in bytes
+     */
+    ChunkBuffer(int capacity) {
+        this.bytes = new byte[Math.max(capacity, 64)];
+    }
+
+    /**
+     * Keeps a copy of a bad line, to be written to the rejects in order with the rest of the file
+     *
+     * @param line long line number within the chunk, from 1
+     * @param status ParseStatus why the line was rejected
+     * @param chunk ByteBuffer holding the line
+     * @param from int index of the first byte of the line
+     * @param to int index just past the last byte of the line
+     */
+    void reject(long line, ParseStatus status, ByteBuffer chunk, int from, int to) {
+        if (rejects == null) {
+            rejects = new ArrayList<>();
+        }
+        byte[] text = new byte[to - from];
+        chunk.get(from, text);
+        rejects.add(new Reject(line, status, text));
+    }
+
+    /**
+     * Writes any bad lines to the rejects, numbered from the start of the file
+     * When bad lines are not kept, the chunk stopped at its first bad line, which fails the file here, once its line
+     * number from the start of the file is known
+     *
+     * @param rejectWriter RejectWriter, or null when bad lines are not kept
+     * @param firstLine long number of lines in the file before this chunk
+     * @throws IOException when the rejects cannot be written
+     * @throws IllegalArgumentException when bad lines are not kept and the chunk holds one
+     */
+    void writeRejects(RejectWriter rejectWriter, long firstLine) throws IOException {
+        if (rejects == null) {
+            return;
+        }
+        if (rejectWriter == null) {
+            Reject first = rejects.get(0);
+            throw new IllegalArgumentException("Line " + (firstLine + first.line) + ": " + first.status.message());
+        }
+        for (Reject reject : rejects) {
+            rejectWriter.reject(firstLine + reject.line, reject.status, reject.text, 0, reject.text.length);
+        }
+    }
+
+    /**
+     * Writes the results built so far
+     *
+     * @param output OutputStream
+     * @throws IOException when the output cannot be written
+     */
+    void writeBytes(OutputStream output) throws IOException {
+        output.write(bytes, 0, length);
+    }
+
+    /**
+     * Appends bytes, which must fit
+     *
+     * @param source byte[]
+     */
+    void put(byte[] source) {
+        System.arraycopy(source, 0, bytes, length, source.length);
+        length += source.length;
+    }
+
+    /**
+     * Makes room for at least the given number of bytes more
+     *
+     * @param extra int bytes
+     */
+    void ensureCapacity(int extra) {
+        if (length + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + extra));
+        }
+    }
+
+    private record Reject(long line, ParseStatus status, byte[] text) {
+    }
+}
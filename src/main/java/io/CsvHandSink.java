@@ -0,0 +1,56 @@
+package io;
+
+import entities.HandEvaluator;
+import entities.HandParser;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This class represents a sink writing a header line, then each hand as "hand,category,score" in its original card
+ * order, where a higher score is a stronger hand
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+final class CsvHandSink extends HandSink {
+    static final byte[] HEADER = ("hand,category,score" + System.lineSeparator()).getBytes(StandardCharsets.US_ASCII);
+
+    private static final int MAX_LINE_LENGTH = HandParser.HAND_SIZE * 3 + 2 + LONGEST_NAME + MAX_DIGITS + LINE_SEPARATOR.length;
+
+    private boolean started;
+
+    CsvHandSink(OutputStream output) {
+        super(output);
+    }
+
+    @Override
+    void append(int[] ids, int strength) throws IOException {
+        start();
+        reserve(MAX_LINE_LENGTH);
+        putCards(ids);
+        put((byte) ',');
+        put(CATEGORY_NAMES[HandEvaluator.categoryOf(strength)]);
+        put((byte) ',');
+        putDecimal(strength);
+        put(LINE_SEPARATOR);
+    }
+
+    @Override
+    void end() throws IOException {
+        start();
+    }
+
+    /**
+     * Utility method
+     * Puts the header before the first line, so an empty run still gives a valid file
+     */
+    private void start() throws IOException {
+        if (!started) {
+            reserve(HEADER.length);
+            put(HEADER);
+            started = true;
+        }
+    }
+}
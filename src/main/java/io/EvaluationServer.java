@@ -0,0 +1,191 @@
+package io;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import entities.HandEvaluator;
+import entities.HandParser;
+import enums.ParseStatus;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * This class represents a long running local evaluation server, and contains functionality to evaluate coded hand
+ * lines posted over HTTP on the loopback interface, saving the cost of starting a JVM per request
+ *
+ * POST /evaluate takes a body of hands in the HandFactory format, one per line, and answers each non blank line with
+ * "hand TAB category TAB score", where a higher score is a stronger hand. A line that cannot be parsed fails the
+ * whole request with status 400 and its line number. GET /stats gives the number of batches and hands evaluated
+ *
+ * Requests are parsed on their handler thread and their hands coalesced into micro batches by a MicroBatcher.
+ * Handlers run on the IoExecutors executor, so on virtual threads where the runtime has them
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public final class EvaluationServer implements AutoCloseable {
+    private static final int STATUS_OK = 200;
+    private static final int STATUS_BAD_REQUEST = 400;
+    private static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    private static final int STATUS_UNAVAILABLE = 503;
+
+    private final HttpServer server;
+    private final MicroBatcher batcher;
+    private final ExecutorService handlers;
+
+    private EvaluationServer(HttpServer server, MicroBatcher batcher, ExecutorService handlers) {
+        this.server = server;
+        this.batcher = batcher;
+        this.handlers = handlers;
+    }
+
+    /**
+     * Starts a server on the loopback interface
+     *
+     * @param port int port to listen on, or 0 for any free port
+     * @param maxBatch int most hands per micro batch
+     * @param maxWaitNanos long longest time a request waits for others to join its batch
+     * @return EvaluationServer started server
+     * @throws IOException when the port cannot be bound
+     */
+    public static EvaluationServer start(int port, int maxBatch, long maxWaitNanos) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        MicroBatcher batcher = new MicroBatcher(maxBatch, maxWaitNanos);
+        ExecutorService handlers = IoExecutors.newIoExecutor();
+        EvaluationServer evaluationServer = new EvaluationServer(server, batcher, handlers);
+
+        server.createContext("/evaluate", evaluationServer::evaluate);
+        server.createContext("/stats", evaluationServer::stats);
+        server.setExecutor(handlers);
+        server.start();
+        return evaluationServer;
+    }
+
+    /**
+     * Gets the port the server is listening on
+     *
+     * @return int port
+     */
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Gets the micro batcher the server evaluates through, for its batch counts
+     *
+     * @return MicroBatcher
+     */
+    public MicroBatcher batcher() {
+        return batcher;
+    }
+
+    /**
+     * Stops accepting requests, then stops the batcher and handler threads
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        batcher.close();
+        handlers.shutdown();
+    }
+
+    /**
+     * Utility method
+     * Handles POST /evaluate, parsing each line of the body and answering once its batch is evaluated
+     */
+    private void evaluate(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                respond(exchange, STATUS_METHOD_NOT_ALLOWED, "Use POST\n".getBytes(StandardCharsets.US_ASCII));
+                return;
+            }
+            byte[] body;
+            try (InputStream input = exchange.getRequestBody()) {
+                body = input.readAllBytes();
+            }
+
+            //line starts and ends of each hand, kept to echo the hand back
+            int[] bounds = new int[64];
+            long[] masks = new long[32];
+            int count = 0;
+            int[] ids = new int[HandParser.HAND_SIZE];
+            int lineStart = 0;
+            for (int line = 1; lineStart < body.length; line++) {
+                int lineEnd = lineStart;
+                while (lineEnd < body.length && body[lineEnd] != '\n') {
+                    lineEnd++;
+                }
+                ParseStatus status = HandParser.tryParseLine(body, lineStart, lineEnd, ids);
+                if (status.isError()) {
+                    respond(exchange, STATUS_BAD_REQUEST, ("Line " + line + ": " + status.message() + "\n").getBytes(StandardCharsets.US_ASCII));
+                    return;
+                }
+                if (status == ParseStatus.VALID) {
+                    if (count == masks.length) {
+                        masks = Arrays.copyOf(masks, count * 2);
+                        bounds = Arrays.copyOf(bounds, count * 4);
+                    }
+                    masks[count] = HandParser.toMask(ids, HandParser.HAND_SIZE);
+                    bounds[count * 2] = lineStart;
+                    bounds[count * 2 + 1] = lineEnd;
+                    count++;
+                }
+                lineStart = lineEnd + 1;
+            }
+
+            if (count == 0) {
+                respond(exchange, STATUS_OK, new byte[0]);
+                return;
+            }
+            MicroBatcher.Results results;
+            try {
+                results = batcher.submit(masks, count).join();
+            } catch (CompletionException ex) {
+                respond(exchange, STATUS_UNAVAILABLE, (ex.getCause().getMessage() + "\n").getBytes(StandardCharsets.US_ASCII));
+                return;
+            }
+
+            StringBuilder response = new StringBuilder(count * 40);
+            for (int i = 0; i < count; i++) {
+                response.append(new String(body, bounds[i * 2], bounds[i * 2 + 1] - bounds[i * 2], StandardCharsets.US_ASCII).trim())
+                        .append('\t').append(HandEvaluator.categoryName(results.categories()[i]))
+                        .append('\t').append(results.strengths()[i])
+                        .append('\n');
+            }
+            respond(exchange, STATUS_OK, response.toString().getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+
+    /**
+     * Utility method
+     * Handles GET /stats with the number of batches and hands evaluated so far
+     */
+    private void stats(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            long batches = batcher.batches();
+            long hands = batcher.hands();
+            String stats = "batches\t" + batches + "\nhands\t" + hands + "\naverageBatch\t"
+                    + (batches == 0 ? 0 : hands / batches) + "\n";
+            respond(exchange, STATUS_OK, stats.getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+
+    /**
+     * Utility method
+     * Sends a plain text response
+     */
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=us-ascii");
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+}
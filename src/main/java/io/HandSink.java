@@ -0,0 +1,209 @@
+package io;
+
+import entities.CardCodec;
+import entities.HandEvaluator;
+import enums.HandCategory;
+import enums.OutputFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This class represents a destination for evaluated hands, and contains functionality to format each hand into a
+ * large byte buffer that is reused for the whole run and written to the output only when full
+ *
+ * Hands must be written in order from a single thread. No objects are created per hand, so formatting keeps up with
+ * the parallel evaluators
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public abstract class HandSink {
+    static final int BUFFER_SIZE = 1 << 20;
+
+    //longest decimal a long can need
+    static final int MAX_DIGITS = 20;
+
+    static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.US_ASCII);
+    static final byte[][] CATEGORY_NAMES = new byte[HandCategory.COUNT][];
+    static final byte[] RANK_CODES = new byte[CardCodec.CARD_COUNT];
+    static final byte[] SUIT_CODES = new byte[CardCodec.CARD_COUNT];
+    static final int LONGEST_NAME;
+
+    static {
+        int longest = 0;
+        for (int category = 0; category < CATEGORY_NAMES.length; category++) {
+            CATEGORY_NAMES[category] = HandEvaluator.categoryName(category).getBytes(StandardCharsets.US_ASCII);
+            longest = Math.max(longest, CATEGORY_NAMES[category].length);
+        }
+        LONGEST_NAME = longest;
+        for (int id = 0; id < CardCodec.CARD_COUNT; id++) {
+            RANK_CODES[id] = (byte) CardCodec.rank(id).toString().charAt(0);
+            SUIT_CODES[id] = (byte) CardCodec.suit(id).toString().charAt(0);
+        }
+    }
+
+    private final OutputStream output;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int length;
+    private long count;
+
+    /**
+     * Method accepts the stream to write to, which is flushed but not closed by finish
+     *
+     * @param output OutputStream
+     */
+    HandSink(OutputStream output) {
+        this.output = output;
+    }
+
+    /**
+     * Creates a sink writing the given format
+     *
+     * @param format OutputFormat
+     * @param output OutputStream to write to, which is flushed but not closed by finish
+     * @return HandSink
+     */
+    public static HandSink open(OutputFormat format, OutputStream output) {
+        return switch (format) {
+            case TEXT -> new TextHandSink(output);
+            case CSV -> new CsvHandSink(output);
+            case BINARY -> new BinaryResultSink(output);
+            case SUMMARY -> new SummaryHandSink(output);
+        };
+    }
+
+    /**
+     * Writes a hand
+     *
+     * @param ids int[] card ids in line order
+     * @param strength int strength, as packed by the HandEvaluator
+     * @throws IOException when the output cannot be written
+     */
+    public final void write(int[] ids, int strength) throws IOException {
+        append(ids, strength);
+        count++;
+    }
+
+    /**
+     * Gets the number of hands written so far
+     *
+     * @return long hands
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Writes anything the format holds back until the end, then flushes the buffer and the output
+     *
+     * @throws IOException when the output cannot be written
+     */
+    public void finish() throws IOException {
+        end();
+        flush();
+    }
+
+    /**
+     * Writes the hands formatted so far and flushes the output, without anything the format holds back until the end,
+     * so the output of a run that fails part way still shows every hand before the failure
+     *
+     * @throws IOException when the output cannot be written
+     */
+    public void flush() throws IOException {
+        flushBuffer();
+        output.flush();
+    }
+
+    /**
+     * Formats a hand into the buffer
+     *
+     * @param ids int[] card ids in line order
+     * @param strength int strength, as packed by the HandEvaluator
+     * @throws IOException when the output cannot be written
+     */
+    abstract void append(int[] ids, int strength) throws IOException;
+
+    /**
+     * Formats anything held back until the end into the buffer, such as a trailer or totals
+     *
+     * @throws IOException when the output cannot be written
+     */
+    void end() throws IOException {
+    }
+
+    /**
+     * Makes room in the buffer for the given number of bytes, writing it out if needed
+     *
+     * @param bytes int bytes about to be put, at most BUFFER_SIZE
+     * @throws IOException when the output cannot be written
+     */
+    final void reserve(int bytes) throws IOException {
+        if (length + bytes > buffer.length) {
+            flushBuffer();
+        }
+    }
+
+    final void put(byte value) {
+        buffer[length++] = value;
+    }
+
+    final void put(byte[] source) {
+        System.arraycopy(source, 0, buffer, length, source.length);
+        length += source.length;
+    }
+
+    final void put(byte[] source, int from, int count) {
+        System.arraycopy(source, from, buffer, length, count);
+        length += count;
+    }
+
+    final void putInt(int value) {
+        buffer[length++] = (byte) (value >>> 24);
+        buffer[length++] = (byte) (value >>> 16);
+        buffer[length++] = (byte) (value >>> 8);
+        buffer[length++] = (byte) value;
+    }
+
+    /**
+     * Puts the card codes of a hand separated by spaces ("QC JC KC AC TC"), which takes three bytes a card
+     *
+     * @param ids int[] card ids in line order
+     */
+    final void putCards(int[] ids) {
+        for (int i = 0; i < ids.length; i++) {
+            if (i > 0) {
+                put((byte) ' ');
+            }
+            put(RANK_CODES[ids[i]]);
+            put(SUIT_CODES[ids[i]]);
+        }
+    }
+
+    /**
+     * Puts a non negative number in decimal, which takes at most MAX_DIGITS bytes
+     *
+     * @param value long number
+     */
+    final void putDecimal(long value) {
+        int digits = 1;
+        for (long rest = value / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        for (int i = length + digits - 1; i >= length; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        length += digits;
+    }
+
+    /**
+     * Utility method
+     * Writes the buffer to the output and empties it
+     */
+    private void flushBuffer() throws IOException {
+        output.write(buffer, 0, length);
+        length = 0;
+    }
+}
@@ -0,0 +1,64 @@
+package io;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class represents the executors used for blocking file and network work, and contains functionality to create
+ * one that runs each task on a virtual thread where the runtime has them
+ *
+ * The build targets Java 17, so virtual threads are looked up reflectively; on older runtimes tasks run on a bounded
+ * pool of daemon platform threads instead. CPU bound evaluation belongs on a separate bounded ForkJoinPool either way
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public final class IoExecutors {
+    //platform threads used when virtual threads are not available, enough to keep many small reads in flight
+    static final int FALLBACK_THREADS = 64;
+
+    private IoExecutors() {
+    }
+
+    /**
+     * Creates an executor for blocking I/O, which the caller must shut down
+     *
+     * @return ExecutorService running a virtual thread per task, or a bounded platform thread pool
+     */
+    public static ExecutorService newIoExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException ex) {
+            return Executors.newFixedThreadPool(FALLBACK_THREADS, daemonThreads());
+        }
+    }
+
+    /**
+     * Checks whether newIoExecutor runs tasks on virtual threads
+     *
+     * @return boolean
+     */
+    public static boolean hasVirtualThreads() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Utility method
+     * Creates a factory of named daemon threads, so an executor left running does not keep the JVM alive
+     */
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger count = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, "poker-face-io-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,109 @@
+package io;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This class represents a memory mapped binary hand file, and contains functionality to read any hand by its index
+ * without reading the ones before it
+ *
+ * The records are mapped read only in segments of whole records, so files larger than a single mapping can hold are
+ * supported, and reads are safe from many threads at once
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public final class MappedBinaryHandFile {
+    //records per mapped segment, keeping each segment under the 2 GB limit of a single mapping
+    static final int SEGMENT_RECORDS = 1 << 28;
+
+    private final MappedByteBuffer[] segments;
+    private final long records;
+
+    private MappedBinaryHandFile(MappedByteBuffer[] segments, long records) {
+        this.segments = segments;
+        this.records = records;
+    }
+
+    /**
+     * Maps a binary hand file, checking its header
+     *
+     * @param file Path of the binary hand file
+     * @return MappedBinaryHandFile
+     * @throws IOException when the file cannot be read or is not a valid binary hand file
+     */
+    public static MappedBinaryHandFile open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long records = BinaryHandFormat.readHeader(channel);
+            MappedByteBuffer[] segments = new MappedByteBuffer[(int) ((records + SEGMENT_RECORDS - 1) / SEGMENT_RECORDS)];
+            for (int i = 0; i < segments.length; i++) {
+                long first = (long) i * SEGMENT_RECORDS;
+                long count = Math.min(SEGMENT_RECORDS, records - first);
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY,
+                        BinaryHandFormat.HEADER_SIZE + first * BinaryHandFormat.RECORD_SIZE, count * BinaryHandFormat.RECORD_SIZE);
+            }
+            return new MappedBinaryHandFile(segments, records);
+        }
+    }
+
+    /**
+     * Gets the number of hands in the file
+     *
+     * @return long records
+     */
+    public long records() {
+        return records;
+    }
+
+    /**
+     * Reads the card ids of a hand
+     *
+     * @param index long index of the hand, from 0
+     * @param ids int[] of at least RECORD_SIZE to write the card ids into, in line order
+     */
+    public void ids(long index, int[] ids) {
+        MappedByteBuffer segment = segment(index);
+        int offset = offset(index);
+        for (int i = 0; i < BinaryHandFormat.RECORD_SIZE; i++) {
+            ids[i] = segment.get(offset + i);
+        }
+    }
+
+    /**
+     * Reads the card mask of a hand
+     *
+     * @param index long index of the hand, from 0
+     * @return long mask as encoded by the CardCodec
+     */
+    public long mask(long index) {
+        MappedByteBuffer segment = segment(index);
+        int offset = offset(index);
+        long mask = 0L;
+        for (int i = 0; i < BinaryHandFormat.RECORD_SIZE; i++) {
+            mask |= 1L << segment.get(offset + i);
+        }
+        return mask;
+    }
+
+    /**
+     * Utility method
+     * Finds the segment holding a record, checking the index is in range
+     */
+    private MappedByteBuffer segment(long index) {
+        if (index < 0 || index >= records) {
+            throw new IndexOutOfBoundsException("Hand Index Out Of Range: " + index);
+        }
+        return segments[(int) (index / SEGMENT_RECORDS)];
+    }
+
+    /**
+     * Utility method
+     * Finds the offset of a record within its segment
+     */
+    private static int offset(long index) {
+        return (int) (index % SEGMENT_RECORDS) * BinaryHandFormat.RECORD_SIZE;
+    }
+}
@@ -0,0 +1,518 @@
+package io;
+
+import entities.CardCodec;
+import entities.EvaluationCache;
+import entities.HandEvaluator;
+import entities.HandParser;
+import enums.ParseStatus;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/**
+ * This class represents a parallel evaluator for hand files, and contains functionality to memory map a file,
+ * split it into chunks on newline boundaries and evaluate the chunks on a fork join pool
+ *
+ * Lines are parsed straight from the mapped bytes, and results are written in the original line order. A bad line
+ * fails the whole file, unless a RejectWriter is given, in which case it is recorded there and skipped without
+ * throwing
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public final class MappedHandFileEvaluator {
+    static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+    static final int DEFAULT_CHUNK_RECORDS = 1 << 16;
+
+    //number of bytes read at a time while searching for the end of the line a chunk boundary falls in
+    private static final int BOUNDARY_SEARCH_SIZE = 4096;
+    //shortest line that can hold a hand, being its two character card codes with a separator between each
+    private static final int MIN_HAND_LINE_LENGTH = HandParser.HAND_SIZE * 3 - 1;
+
+    private MappedHandFileEvaluator() {
+    }
+
+    /**
+     * Evaluates every hand in the file, writing each hand and its name to the output in line order
+     *
+     * @param file Path of the hand file
+     * @param output OutputStream to write results to, which is flushed but not closed
+     * @param pool ForkJoinPool to evaluate the chunks on
+     * @return long number of hands evaluated
+     * @throws IOException when the file cannot be read or the output written
+     */
+    public static long evaluate(Path file, OutputStream output, ForkJoinPool pool) throws IOException {
+        return evaluate(file, output, pool, null, null, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Evaluates every hand in the file through a cache shared by every chunk, writing each hand and its name to the
+     * output in line order
+     *
+     * @param file Path of the hand file
+     * @param output OutputStream to write results to, which is flushed but not closed
+     * @param pool ForkJoinPool to evaluate the chunks on
+     * @param cache EvaluationCache to look strengths up in
+     * @return long number of hands evaluated
+     * @throws IOException when the file cannot be read or the output written
+     */
+    public static long evaluate(Path file, OutputStream output, ForkJoinPool pool, EvaluationCache cache) throws IOException {
+        return evaluate(file, output, pool, cache, null, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Evaluates every hand in the file, writing each hand and its name to the output in line order and each line that
+     * is not a valid hand to the rejects, so bad lines are skipped rather than failing the file
+     *
+     * @param file Path of the hand file
+     * @param output OutputStream to write results to, which is flushed but not closed
+     * @param pool ForkJoinPool to evaluate the chunks on
+     * @param cache EvaluationCache to look strengths up in, or null to evaluate every hand
+     * @param rejects RejectWriter to record bad lines in, or null to fail on the first bad line
+     * @return long number of hands evaluated
+     * @throws IOException when the file cannot be read or the output written
+     */
+    public static long evaluate(Path file, OutputStream output, ForkJoinPool pool, EvaluationCache cache,
+                                RejectWriter rejects) throws IOException {
+        return evaluate(file, output, pool, cache, rejects, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Evaluates every hand in the file in chunks of roughly the given size
+     * At most twice the pool parallelism chunks are in flight, so memory use does not grow with the file
+     *
+     * @param file Path of the hand file
+     * @param output OutputStream to write results to, which is flushed but not closed
+     * @param pool ForkJoinPool to evaluate the chunks on
+     * @param cache EvaluationCache to look strengths up in, or null to evaluate every hand
+     * @param rejects RejectWriter to record bad lines in, or null to fail on the first bad line
+     * @param chunkSize int target number of bytes per chunk
+     * @return long number of hands evaluated
+     * @throws IOException when the file cannot be read or the output written
+     */
+    static long evaluate(Path file, OutputStream output, ForkJoinPool pool, EvaluationCache cache,
+                         RejectWriter rejects, int chunkSize) throws IOException {
+        try {
+            return evaluateChunks(file, pool, chunkSize, chunk -> evaluateChunk(chunk, cache, rejects != null, false),
+                    (result, firstLine) -> result.writeTo(output, rejects, firstLine));
+        } finally {
+            output.flush();
+        }
+    }
+
+    /**
+     * Evaluates every hand in the file, passing each to the sink in line order, so results can be written in any
+     * OutputFormat. The sink is not finished, so several files can be written to it
+     *
+     * @param file Path of the hand file
+     * @param sink HandSink to write results to
+     * @param pool ForkJoinPool to evaluate the chunks on
+     * @param cache EvaluationCache to look strengths up in, or null to evaluate every hand
+     * @param rejects RejectWriter to record bad lines in, or null to fail on the first bad line
+     * @return long number of hands evaluated
+     * @throws IOException when the file cannot be read or the output written
+     */
+    public static long evaluate(Path file, HandSink sink, ForkJoinPool pool, EvaluationCache cache,
+                                RejectWriter rejects) throws IOException {
+        return evaluate(file, sink, pool, cache, rejects, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Evaluates every hand in the file in chunks of roughly the given size, passing each to the sink in line order
+     *
+     * @param file Path of the hand file
+     * @param sink HandSink to write results to
+     * @param pool ForkJoinPool to evaluate the chunks on
+     * @param cache EvaluationCache to look strengths up in, or null to evaluate every hand
+     * @param rejects RejectWriter to record bad lines in, or null to fail on the first bad line
+     * @param chunkSize int target number of bytes per chunk
+     * @return long number of hands evaluated
+     * @throws IOException when the file cannot be read or the output written
+     */
+    static long evaluate(Path file, HandSink sink, ForkJoinPool pool, EvaluationCache cache,
+                         RejectWriter rejects, int chunkSize) throws IOException {
+        return evaluateChunks(file, pool, chunkSize, chunk -> evaluateChunk(chunk, cache, rejects != null, true),
+                (result, firstLine) -> result.writeTo(sink, rejects, firstLine));
+    }
+
+    /**
+     * Evaluates every hand in a binary hand file, writing each hand and its name to the output in record order, in the
+     * same format as a text hand file gives
+     *
+     * @param file Path of the binary hand file
+     * @param output OutputStream to write results to, which is flushed but not closed
+     * @param pool ForkJoinPool to evaluate the chunks on
+     * @param cache EvaluationCache to look strengths up in, or null to evaluate every hand
+     * @return long number of hands evaluated
+     * @throws IOException when the file cannot be read or is not a valid binary hand file, or the output written
+     */
+    public static long evaluateBinary(Path file, OutputStream output, ForkJoinPool pool, EvaluationCache cache) throws IOException {
+        return evaluateBinary(file, output, pool, cache, DEFAULT_CHUNK_RECORDS);
+    }
+
+    /**
+     * Evaluates every hand in a binary hand file in chunks of the given number of records
+     * As records are fixed width, chunks are cut at record boundaries without searching the file for them
+     *
+     * @param file Path of the binary hand file
+     * @param output OutputStream to write results to, which is flushed but not closed
+     * @param pool ForkJoinPool to evaluate the chunks on
+     * @param cache EvaluationCache to look strengths up in, or null to evaluate every hand
+     * @param chunkRecords int number of records per chunk
+     * @return long number of hands evaluated
+     * @throws IOException when the file cannot be read or is not a valid binary hand file, or the output written
+     */
+    static long evaluateBinary(Path file, OutputStream output, ForkJoinPool pool, EvaluationCache cache,
+                               int chunkRecords) throws IOException {
+        try {
+            return evaluateRecordChunks(file, pool, cache, false, chunkRecords,
+                    (result, firstLine) -> result.writeTo(output));
+        } finally {
+            output.flush();
+        }
+    }
+
+    /**
+     * Evaluates every hand in a binary hand file, passing each to the sink in record order. The sink is not finished
+     *
+     * @param file Path of the binary hand file
+     * @param sink HandSink to write results to
+     * @param pool ForkJoinPool to evaluate the chunks on
+     * @param cache EvaluationCache to look strengths up in, or null to evaluate every hand
+     * @return long number of hands evaluated
+     * @throws IOException when the file cannot be read or is not a valid binary hand file, or the output written
+     */
+    public static long evaluateBinary(Path file, HandSink sink, ForkJoinPool pool, EvaluationCache cache) throws IOException {
+        return evaluateRecordChunks(file, pool, cache, true, DEFAULT_CHUNK_RECORDS,
+                (result, firstLine) -> result.writeTo(sink, null, firstLine));
+    }
+
+    /**
+     * Maps a text file chunk by chunk on newline boundaries, evaluating each on the pool and handing the results to the
+     * writer in order
+     *
+     * @param file Path of the text file
+     * @param pool ForkJoinPool to evaluate the chunks on
+     * @param chunkSize int target number of bytes per chunk
+     * @param evaluator Function evaluating the whole lines of a mapped chunk
+     * @param writer ChunkWriter to hand the results of each chunk to
+     * @return long number of results the writer wrote
+     * @throws IOException when the file cannot be read or the results written
+     */
+    static <T extends ChunkBuffer> long evaluateChunks(Path file, ForkJoinPool pool, int chunkSize,
+                                                       Function<ByteBuffer, T> evaluator,
+                                                       OrderedResults.ChunkWriter<T> writer) throws IOException {
+        OrderedResults<T> results = new OrderedResults<>(pool.getParallelism() * 2, writer);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long start = 0;
+            while (start < size) {
+                long end = nextBoundary(channel, Math.min(start + chunkSize, size), size);
+                MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+                results.add(CompletableFuture.supplyAsync(() -> evaluator.apply(chunk), pool));
+                start = end;
+            }
+            return results.drain();
+        } finally {
+            results.cancel();
+        }
+    }
+
+    /**
+     * Utility method
+     * Splits the binary file into ranges of records, evaluating each on the pool and handing the results to the
+     * writer in order
+     *
+     * @return long number of hands evaluated
+     */
+    private static long evaluateRecordChunks(Path file, ForkJoinPool pool, EvaluationCache cache, boolean records,
+                                             int chunkRecords, OrderedResults.ChunkWriter<ChunkResult> writer)
+            throws IOException {
+        MappedBinaryHandFile hands = MappedBinaryHandFile.open(file);
+        OrderedResults<ChunkResult> results = new OrderedResults<>(pool.getParallelism() * 2, writer);
+        try {
+            for (long start = 0; start < hands.records(); start += chunkRecords) {
+                long from = start;
+                long to = Math.min(start + chunkRecords, hands.records());
+                results.add(CompletableFuture.supplyAsync(() -> evaluateRecords(hands, from, to, cache, records), pool));
+            }
+            return results.drain();
+        } finally {
+            results.cancel();
+        }
+    }
+
+    /**
+     * Waits for a chunk, rethrowing the exception that failed it as it was thrown
+     *
+     * @param task CompletableFuture evaluating a chunk
+     * @return T results of the chunk
+     * @throws IOException when interrupted while waiting
+     */
+    static <T> T await(CompletableFuture<T> task) throws IOException {
+        try {
+            return task.get();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IOException(ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for chunk");
+        }
+    }
+
+    /**
+     * Moves a chunk boundary forward to just after the next newline
+     * There is no limit on the length of a line, so in a file with no newlines the search runs to the end of the file
+     *
+     * @param channel FileChannel of the file
+     * @param position long proposed boundary
+     * @param size long size of the file
+     * @return long boundary at the start of a line, or the end of the file
+     * @throws IOException when the file cannot be read
+     */
+    static long nextBoundary(FileChannel channel, long position, long size) throws IOException {
+        ByteBuffer window = ByteBuffer.allocate(BOUNDARY_SEARCH_SIZE);
+        while (position < size) {
+            window.clear();
+            int read = channel.read(window, position);
+            for (int i = 0; i < read; i++) {
+                if (window.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    /**
+     * Evaluates each line in a mapped chunk and formats the results
+     *
+     * @param chunk ByteBuffer holding whole lines
+     * @param cache EvaluationCache to look strengths up in, or null to evaluate every hand
+     * @param tolerant boolean whether to keep every bad line as a reject rather than stopping at the first, which
+     *                 fails the file when the chunk is written
+     * @return ChunkResult formatted results of the chunk
+     */
+    static ChunkResult evaluateChunk(ByteBuffer chunk, EvaluationCache cache, boolean tolerant) {
+        return evaluateChunk(chunk, cache, tolerant, false);
+    }
+
+    /**
+     * Evaluates each line in a mapped chunk, keeping either the formatted text or the card ids and strength of each
+     * hand to pass to a HandSink
+     *
+     * @param chunk ByteBuffer holding whole lines
+     * @param cache EvaluationCache to look strengths up in, or null to evaluate every hand
+     * @param tolerant boolean whether to keep every bad line as a reject rather than stopping at the first, which
+     *                 fails the file when the chunk is written
+     * @param records boolean whether to keep the card ids and strengths rather than text
+     * @return ChunkResult results of the chunk
+     */
+    static ChunkResult evaluateChunk(ByteBuffer chunk, EvaluationCache cache, boolean tolerant, boolean records) {
+        //each line long enough for a hand holds at most one, which needs at most a text line or a record of card ids,
+        //while blank and short lines need nothing
+        int capacity = countHandLines(chunk) * (records ? HandParser.HAND_SIZE : TextHandSink.MAX_LINE_LENGTH);
+        ChunkResult result = new ChunkResult(capacity, records);
+        int[] ids = new int[HandParser.HAND_SIZE];
+        int limit = chunk.limit();
+        int lineStart = 0;
+        while (lineStart < limit) {
+            int lineEnd = lineStart;
+            while (lineEnd < limit && chunk.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+
+            ParseStatus status = HandParser.tryParseLine(chunk, lineStart, lineEnd, ids);
+            result.lines++;
+            if (status.isError()) {
+                result.reject(result.lines, status, chunk, lineStart, lineEnd);
+                if (!tolerant) {
+                    //the line number is only known once the chunks before are written, so the file fails then
+                    return result;
+                }
+            } else if (status == ParseStatus.VALID) {
+                result.add(ids, HandParser.toMask(ids, HandParser.HAND_SIZE), cache);
+            }
+            lineStart = lineEnd + 1;
+        }
+        return result;
+    }
+
+    /**
+     * Utility method
+     * Counts the lines in a chunk long enough to hold a hand, including a last line with no newline
+     *
+     * @return int number of lines
+     */
+    private static int countHandLines(ByteBuffer chunk) {
+        int limit = chunk.limit();
+        int lines = 0;
+        int lineStart = 0;
+        for (int i = 0; i <= limit; i++) {
+            if (i == limit || chunk.get(i) == '\n') {
+                if (i - lineStart >= MIN_HAND_LINE_LENGTH) {
+                    lines++;
+                }
+                lineStart = i + 1;
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Evaluates a range of records of a binary hand file and formats the results
+     *
+     * @param hands MappedBinaryHandFile
+     * @param from long index of the first record
+     * @param to long index just past the last record
+     * @param cache EvaluationCache to look strengths up in, or null to evaluate every hand
+     * @param records boolean whether to keep the card ids and strengths rather than text
+     * @return ChunkResult results of the range
+     */
+    static ChunkResult evaluateRecords(MappedBinaryHandFile hands, long from, long to, EvaluationCache cache,
+                                       boolean records) {
+        ChunkResult result = new ChunkResult((int) (to - from)
+                * (records ? HandParser.HAND_SIZE : TextHandSink.MAX_LINE_LENGTH), records);
+        int[] ids = new int[HandParser.HAND_SIZE];
+        for (long index = from; index < to; index++) {
+            hands.ids(index, ids);
+            //the file may not have come from the writer, so each id is checked before it is shifted into the mask
+            for (int id : ids) {
+                if (id < 0 || id >= CardCodec.CARD_COUNT) {
+                    throw new IllegalArgumentException("Invalid Hand Record " + index);
+                }
+            }
+            result.add(ids, HandParser.toMask(ids, HandParser.HAND_SIZE), cache);
+            result.lines++;
+        }
+        return result;
+    }
+
+    /**
+     * This class represents the results of a chunk, held in growable arrays either as formatted text or as the card
+     * ids and strength of each hand
+     */
+    static final class ChunkResult extends ChunkBuffer {
+        private final boolean records;
+        private int[] strengths;
+        private long count;
+
+        ChunkResult(int capacity) {
+            this(capacity, false);
+        }
+
+        ChunkResult(int capacity, boolean records) {
+            super(capacity);
+            this.records = records;
+            this.strengths = records ? new int[bytes.length / HandParser.HAND_SIZE] : null;
+        }
+
+        /**
+         * Evaluates a hand and keeps it in the form this result holds
+         *
+         * @param ids int[] card ids in line order
+         * @param mask long bitmask of the cards
+         * @param cache EvaluationCache to look the strength up in, or null to evaluate the hand
+         */
+        void add(int[] ids, long mask, EvaluationCache cache) {
+            if (!records) {
+                append(ids, cache == null ? HandEvaluator.category(mask) : HandEvaluator.categoryOf(cache.strength(mask)));
+                return;
+            }
+            ensureCapacity(ids.length);
+            if (count == strengths.length) {
+                strengths = Arrays.copyOf(strengths, strengths.length * 2);
+            }
+            for (int id : ids) {
+                bytes[length++] = (byte) id;
+            }
+            strengths[(int) count++] = cache == null ? HandEvaluator.strength(mask) : cache.strength(mask);
+        }
+
+        /**
+         * Appends a hand in the same format as the line by line mode ("QC JC KC AC TC => Royal Flush")
+         *
+         * @param ids int[] card ids in line order
+         * @param category int category of the hand
+         */
+        void append(int[] ids, int category) {
+            byte[] name = HandSink.CATEGORY_NAMES[category];
+            ensureCapacity(ids.length * 3 + TextHandSink.SEPARATOR.length + name.length + HandSink.LINE_SEPARATOR.length);
+            for (int i = 0; i < ids.length; i++) {
+                if (i > 0) {
+                    bytes[length++] = ' ';
+                }
+                bytes[length++] = HandSink.RANK_CODES[ids[i]];
+                bytes[length++] = HandSink.SUIT_CODES[ids[i]];
+            }
+            put(TextHandSink.SEPARATOR);
+            put(name);
+            put(HandSink.LINE_SEPARATOR);
+            count++;
+        }
+
+        /**
+         * Writes the formatted output
+         *
+         * @param output OutputStream
+         * @return long number of hands in the chunk
+         * @throws IOException when the output cannot be written
+         */
+        long writeTo(OutputStream output) throws IOException {
+            writeBytes(output);
+            return count;
+        }
+
+        /**
+         * Writes the formatted output, and any bad lines to the rejects numbered from the start of the file
+         *
+         * @param output OutputStream
+         * @param rejectWriter RejectWriter, or null when bad lines are not kept
+         * @param firstLine long number of lines in the file before this chunk
+         * @return long number of hands in the chunk
+         * @throws IOException when the output or rejects cannot be written
+         */
+        long writeTo(OutputStream output, RejectWriter rejectWriter, long firstLine) throws IOException {
+            //the hands before a bad line are written before the file fails on it
+            writeBytes(output);
+            writeRejects(rejectWriter, firstLine);
+            return count;
+        }
+
+        /**
+         * Passes each hand to the sink, and any bad lines to the rejects numbered from the start of the file
+         *
+         * @param sink HandSink, which requires a result keeping card ids and strengths
+         * @param rejectWriter RejectWriter, or null when bad lines are not kept
+         * @param firstLine long number of lines in the file before this chunk
+         * @return long number of hands in the chunk
+         * @throws IOException when the output or rejects cannot be written
+         */
+        long writeTo(HandSink sink, RejectWriter rejectWriter, long firstLine) throws IOException {
+            int[] ids = new int[HandParser.HAND_SIZE];
+            for (int hand = 0, at = 0; hand < count; hand++) {
+                for (int i = 0; i < ids.length; i++) {
+                    ids[i] = bytes[at++];
+                }
+                sink.write(ids, strengths[hand]);
+            }
+            writeRejects(rejectWriter, firstLine);
+            return count;
+        }
+    }
+}
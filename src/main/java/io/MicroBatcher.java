@@ -0,0 +1,200 @@
+package io;
+
+import entities.BatchEvaluator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class represents a micro batcher in front of the BatchEvaluator, and contains functionality to coalesce hands
+ * submitted by many concurrent callers into batches evaluated in one call
+ *
+ * A dispatcher thread takes the first waiting request, then gathers more until the batch holds maxBatch hands or
+ * maxWait has passed since the first was taken, so a lone request waits at most maxWait and a busy server evaluates
+ * full batches. A request that would take the batch past maxBatch is held over to start the next one, so only a single
+ * request larger than maxBatch is ever evaluated as a batch of more than maxBatch hands
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public final class MicroBatcher implements AutoCloseable {
+    private final BlockingQueue<Request> queue = new LinkedBlockingQueue<>();
+    private final int maxBatch;
+    private final long maxWaitNanos;
+    private final Thread dispatcher;
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder hands = new LongAdder();
+
+    private volatile boolean running = true;
+    //the request that did not fit in the last batch, only touched by the dispatcher
+    private Request held;
+
+    /**
+     * Method accepts the most hands to gather into a batch and the longest to wait for them, and starts the dispatcher
+     *
+     * @param maxBatch int most hands per batch, once reached the batch is evaluated at once
+     * @param maxWaitNanos long longest time to wait for more requests after the first of a batch
+     */
+    public MicroBatcher(int maxBatch, long maxWaitNanos) {
+        if (maxBatch <= 0 || maxWaitNanos < 0) {
+            throw new IllegalArgumentException("Batch size must be positive and wait must not be negative");
+        }
+        this.maxBatch = maxBatch;
+        this.maxWaitNanos = maxWaitNanos;
+        this.dispatcher = new Thread(this::dispatch, "poker-face-batcher");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+
+    /**
+     * Submits hands to be evaluated in the next batch
+     *
+     * @param masks long[] five card masks, which must not be changed until the result completes
+     * @param count int number of masks, from index 0
+     * @return CompletableFuture completing with the category and strength of each hand, in order
+     */
+    public CompletableFuture<Results> submit(long[] masks, int count) {
+        Request request = new Request(masks, count, new CompletableFuture<>());
+        if (!running) {
+            request.result.completeExceptionally(new IllegalStateException("Batcher Closed"));
+            return request.result;
+        }
+        queue.add(request);
+        //a close between the check and the add has already drained the queue, so fail the request if it is still there
+        if (!running && queue.remove(request)) {
+            request.result.completeExceptionally(new IllegalStateException("Batcher Closed"));
+        }
+        return request.result;
+    }
+
+    /**
+     * Gets the number of batches evaluated
+     *
+     * @return long batches
+     */
+    public long batches() {
+        return batches.sum();
+    }
+
+    /**
+     * Gets the number of hands evaluated
+     *
+     * @return long hands
+     */
+    public long hands() {
+        return hands.sum();
+    }
+
+    /**
+     * Stops the dispatcher, failing any request still waiting
+     */
+    @Override
+    public void close() {
+        running = false;
+        dispatcher.interrupt();
+        Request request;
+        while ((request = queue.poll()) != null) {
+            request.result.completeExceptionally(new IllegalStateException("Batcher Closed"));
+        }
+    }
+
+    /**
+     * Utility method
+     * Gathers and evaluates batches until closed, reusing its buffers from batch to batch
+     */
+    private void dispatch() {
+        List<Request> batch = new ArrayList<>();
+        long[] masks = new long[maxBatch];
+        byte[] categories = new byte[maxBatch];
+        int[] strengths = new int[maxBatch];
+
+        while (running) {
+            batch.clear();
+            int count;
+            try {
+                count = gather(batch);
+            } catch (InterruptedException ex) {
+                batch.forEach(request -> request.result.completeExceptionally(new IllegalStateException("Batcher Closed")));
+                break;
+            }
+
+            if (count > masks.length) {
+                masks = new long[count];
+                categories = new byte[count];
+                strengths = new int[count];
+            }
+            int offset = 0;
+            for (Request request : batch) {
+                System.arraycopy(request.masks, 0, masks, offset, request.count);
+                offset += request.count;
+            }
+
+            try {
+                BatchEvaluator.evaluate(masks, count, categories, strengths);
+            } catch (RuntimeException ex) {
+                batch.forEach(request -> request.result.completeExceptionally(ex));
+                continue;
+            }
+            batches.increment();
+            hands.add(count);
+
+            offset = 0;
+            for (Request request : batch) {
+                int end = offset + request.count;
+                request.result.complete(new Results(Arrays.copyOfRange(categories, offset, end),
+                        Arrays.copyOfRange(strengths, offset, end)));
+                offset = end;
+            }
+        }
+        if (held != null) {
+            held.result.completeExceptionally(new IllegalStateException("Batcher Closed"));
+        }
+    }
+
+    /**
+     * Utility method
+     * Starts the batch with the held request, or waits for one, then adds more until the next would not fit or the
+     * wait is over
+     *
+     * @return int number of hands in the batch
+     */
+    private int gather(List<Request> batch) throws InterruptedException {
+        Request first = held == null ? queue.take() : held;
+        held = null;
+        batch.add(first);
+        int count = first.count;
+        long deadline = System.nanoTime() + maxWaitNanos;
+        while (count < maxBatch) {
+            //take whatever is already queued without waiting
+            Request next = queue.poll();
+            if (next == null) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || (next = queue.poll(remaining, TimeUnit.NANOSECONDS)) == null) {
+                    break;
+                }
+            }
+            if (count + next.count > maxBatch) {
+                held = next;
+                break;
+            }
+            batch.add(next);
+            count += next.count;
+        }
+        return count;
+    }
+
+    /**
+     * This record represents the category (a HandCategory ordinal) and strength of each hand of a request, in order
+     */
+    public record Results(byte[] categories, int[] strengths) {
+    }
+
+    private record Request(long[] masks, int count, CompletableFuture<Results> result) {
+    }
+}
@@ -0,0 +1,87 @@
+package io;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * This class represents the chunks of a file in flight, and contains functionality to hand their results to a writer
+ * in the order they were added while at most maxInFlight are queued, so memory use does not grow with the file
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+final class OrderedResults<T extends ChunkBuffer> {
+    private final Deque<CompletableFuture<T>> inFlight = new ArrayDeque<>();
+    private final int maxInFlight;
+    private final ChunkWriter<T> writer;
+    private long count;
+    private long lines;
+
+    /**
+     * Method accepts the most chunks to queue and the writer to hand their results to
+     *
+     * @param maxInFlight int most chunks queued before the oldest is written
+     * @param writer ChunkWriter
+     */
+    OrderedResults(int maxInFlight, ChunkWriter<T> writer) {
+        this.maxInFlight = maxInFlight;
+        this.writer = writer;
+    }
+
+    /**
+     * Queues a chunk, first writing the oldest when the queue is full
+     *
+     * @param task CompletableFuture evaluating the chunk
+     * @throws IOException when a chunk cannot be written
+     */
+    void add(CompletableFuture<T> task) throws IOException {
+        inFlight.addLast(task);
+        if (inFlight.size() >= maxInFlight) {
+            writeNext();
+        }
+    }
+
+    /**
+     * Writes every chunk still queued
+     *
+     * @return long number of results written in total
+     * @throws IOException when a chunk cannot be written
+     */
+    long drain() throws IOException {
+        while (!inFlight.isEmpty()) {
+            writeNext();
+        }
+        return count;
+    }
+
+    /**
+     * Cancels anything still queued, for when a chunk failed
+     */
+    void cancel() {
+        inFlight.forEach(task -> task.cancel(true));
+    }
+
+    private void writeNext() throws IOException {
+        T result = MappedHandFileEvaluator.await(inFlight.removeFirst());
+        count += writer.write(result, lines);
+        lines += result.lines;
+    }
+
+    /**
+     * This interface represents where the results of each chunk go, in order
+     */
+    interface ChunkWriter<T> {
+
+        /**
+         * Writes the results of a chunk
+         *
+         * @param result T results of the chunk
+         * @param firstLine long number of lines in the file before the chunk
+         * @return long number of results written
+         * @throws IOException when the results cannot be written
+         */
+        long write(T result, long firstLine) throws IOException;
+    }
+}
@@ -0,0 +1,90 @@
+package io;
+
+import enums.ParseStatus;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This class represents a sidecar file of rejected hand lines, and contains functionality to record each line that
+ * could not be evaluated with its line number and reason ("17	Invalid Card	QX JC KC AC TC"), and to count them
+ *
+ * Lines must be recorded in order from a single thread
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public final class RejectWriter implements Closeable {
+    private static final byte TAB = '\t';
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.US_ASCII);
+
+    private final OutputStream output;
+    private long count;
+
+    /**
+     * Method accepts the stream to write rejected lines to, which is closed with the writer
+     *
+     * @param output OutputStream, ideally buffered
+     */
+    public RejectWriter(OutputStream output) {
+        this.output = output;
+    }
+
+    /**
+     * Records a rejected line held as bytes
+     *
+     * @param lineNumber long line number, from 1
+     * @param status ParseStatus why the line was rejected
+     * @param bytes byte[] holding the line
+     * @param from int index of the first byte of the line
+     * @param to int index just past the last byte of the line, excluding the newline
+     * @throws IOException when the sidecar cannot be written
+     */
+    public void reject(long lineNumber, ParseStatus status, byte[] bytes, int from, int to) throws IOException {
+        //drop the carriage return of a windows line ending
+        if (to > from && bytes[to - 1] == '\r') {
+            to--;
+        }
+        output.write(Long.toString(lineNumber).getBytes(StandardCharsets.US_ASCII));
+        output.write(TAB);
+        output.write(status.message().getBytes(StandardCharsets.US_ASCII));
+        output.write(TAB);
+        output.write(bytes, from, to - from);
+        output.write(LINE_SEPARATOR);
+        count++;
+    }
+
+    /**
+     * Records a rejected line held as chars
+     *
+     * @param lineNumber long line number, from 1
+     * @param status ParseStatus why the line was rejected
+     * @param line CharSequence the line, excluding the newline
+     * @throws IOException when the sidecar cannot be written
+     */
+    public void reject(long lineNumber, ParseStatus status, CharSequence line) throws IOException {
+        byte[] bytes = line.toString().getBytes(StandardCharsets.UTF_8);
+        reject(lineNumber, status, bytes, 0, bytes.length);
+    }
+
+    /**
+     * Gets the number of lines rejected so far
+     *
+     * @return long rejected lines
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Flushes and closes the sidecar
+     *
+     * @throws IOException when the sidecar cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        output.close();
+    }
+}
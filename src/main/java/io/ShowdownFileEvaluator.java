@@ -0,0 +1,205 @@
+package io;
+
+import entities.CardCodec;
+import entities.HandEvaluator;
+import entities.HandParser;
+import enums.ParseStatus;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * This class represents a parallel evaluator for files of showdowns, and contains functionality to memory map a file
+ * where each line holds two or more hands separated by "|", split it into chunks on newline boundaries, and find the
+ * winning seat of each line on a fork join pool
+ *
+ * Hands are compared by their packed strengths rather than their categories, so kickers decide between hands of the
+ * same category and only hands of exactly equal strength split the pot. Each line is written back with its winning
+ * seat ("QC JC KC AC TC | 2S 4H 7D 6D 3H => 1") or the seats that split it ("... => Tie 1 2"), in the original line
+ * order, and the wins and splits of each seat are tallied across the file
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public final class ShowdownFileEvaluator {
+    public static final byte HAND_SEPARATOR = '|';
+    //ten hands hold fifty of the fifty two cards, so an eleventh would have to share a card
+    public static final int MAX_SEATS = CardCodec.CARD_COUNT / HandParser.HAND_SIZE;
+
+    private static final byte[] TIE = "Tie".getBytes(StandardCharsets.US_ASCII);
+
+    private ShowdownFileEvaluator() {
+    }
+
+    /**
+     * Finds the winner of every showdown in the file, writing each line and its winning seats to the output in line
+     * order
+     *
+     * @param file Path of the showdown file
+     * @param output OutputStream to write results to, which is flushed but not closed
+     * @param pool ForkJoinPool to evaluate the chunks on
+     * @param rejects RejectWriter to record bad lines in and skip them, or null to fail on the first bad line
+     * @return ShowdownTally wins and splits of each seat
+     * @throws IOException when the file cannot be read or the output written
+     */
+    public static ShowdownTally evaluate(Path file, OutputStream output, ForkJoinPool pool, RejectWriter rejects)
+            throws IOException {
+        return evaluate(file, output, pool, rejects, MappedHandFileEvaluator.DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Finds the winner of every showdown in the file, mapping it in chunks of about the given size
+     *
+     * @param file Path of the showdown file
+     * @param output OutputStream to write results to, which is flushed but not closed
+     * @param pool ForkJoinPool to evaluate the chunks on
+     * @param rejects RejectWriter to record bad lines in and skip them, or null to fail on the first bad line
+     * @param chunkSize int target chunk size in bytes
+     * @return ShowdownTally wins and splits of each seat
+     * @throws IOException when the file cannot be read or the output written
+     */
+    static ShowdownTally evaluate(Path file, OutputStream output, ForkJoinPool pool, RejectWriter rejects,
+                                  int chunkSize) throws IOException {
+        ShowdownTally tally = new ShowdownTally(MAX_SEATS);
+        try {
+            boolean tolerant = rejects != null;
+            MappedHandFileEvaluator.evaluateChunks(file, pool, chunkSize, chunk -> evaluateChunk(chunk, tolerant),
+                    (result, firstLine) -> {
+                        //the showdowns before a bad line are written before the file fails on it
+                        result.writeBytes(output);
+                        result.writeRejects(rejects, firstLine);
+                        tally.merge(result.tally);
+                        return result.tally.showdowns();
+                    });
+        } finally {
+            output.flush();
+        }
+        return tally;
+    }
+
+    /**
+     * Utility method
+     * Finds the winning seats of each line in a mapped chunk and formats the results
+     *
+     * @param chunk ByteBuffer holding whole lines
+     * @param tolerant boolean whether to keep every bad line as a reject rather than stopping at the first
+     * @return ShowdownChunk results of the chunk
+     */
+    private static ShowdownChunk evaluateChunk(ByteBuffer chunk, boolean tolerant) {
+        int limit = chunk.limit();
+        ShowdownChunk result = new ShowdownChunk(limit + limit / 2);
+        int[] ids = new int[HandParser.HAND_SIZE];
+        int lineStart = 0;
+        while (lineStart < limit) {
+            int lineEnd = lineStart;
+            while (lineEnd < limit && chunk.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            result.lines++;
+
+            ParseStatus status = ParseStatus.VALID;
+            long used = 0L;
+            int seats = 0;
+            int best = -1;
+            int winners = 0;
+            for (int handStart = lineStart; status == ParseStatus.VALID && handStart <= lineEnd; seats++) {
+                int handEnd = handStart;
+                while (handEnd < lineEnd && chunk.get(handEnd) != HAND_SEPARATOR) {
+                    handEnd++;
+                }
+                status = HandParser.tryParseLine(chunk, handStart, handEnd, ids);
+                if (status == ParseStatus.BLANK && (seats > 0 || handEnd < lineEnd)) {
+                    //only a line with nothing on it is blank, an empty seat is a hand with no cards
+                    status = ParseStatus.WRONG_CARD_COUNT;
+                } else if (status == ParseStatus.VALID) {
+                    long mask = HandParser.toMask(ids, HandParser.HAND_SIZE);
+                    if ((used & mask) != 0) {
+                        status = ParseStatus.SHARED_CARD;
+                    } else {
+                        used |= mask;
+                        int strength = HandEvaluator.strength(mask);
+                        if (strength > best) {
+                            best = strength;
+                            winners = 1 << seats;
+                        } else if (strength == best) {
+                            winners |= 1 << seats;
+                        }
+                    }
+                }
+                handStart = handEnd + 1;
+            }
+            if (status == ParseStatus.VALID && seats < 2) {
+                status = ParseStatus.TOO_FEW_HANDS;
+            }
+
+            if (status.isError()) {
+                result.reject(result.lines, status, chunk, lineStart, lineEnd);
+                if (!tolerant) {
+                    //the line number is only known once the chunks before are written, so the file fails then
+                    return result;
+                }
+            } else if (status == ParseStatus.VALID) {
+                result.add(chunk, lineStart, lineEnd, seats, winners);
+            }
+            lineStart = lineEnd + 1;
+        }
+        return result;
+    }
+
+    /**
+     * This class represents the results of a chunk, held as formatted text along with the tally of its showdowns
+     */
+    private static final class ShowdownChunk extends ChunkBuffer {
+        private final ShowdownTally tally = new ShowdownTally(MAX_SEATS);
+
+        ShowdownChunk(int capacity) {
+            super(capacity);
+        }
+
+        /**
+         * Appends a showdown line as it was given, followed by its winning seat or the seats that split it
+         *
+         * @param chunk ByteBuffer holding the line
+         * @param from int index of the first byte of the line
+         * @param to int index just past the last byte of the line
+         * @param seats int number of hands on the line
+         * @param winners int bitmask of the winning seats, bit 0 being seat 1
+         */
+        void add(ByteBuffer chunk, int from, int to, int seats, int winners) {
+            //drop the spaces and carriage return around the line
+            while (chunk.get(from) <= ' ') {
+                from++;
+            }
+            while (chunk.get(to - 1) <= ' ') {
+                to--;
+            }
+            ensureCapacity(to - from + TextHandSink.SEPARATOR.length + TIE.length + seats * 3
+                    + HandSink.LINE_SEPARATOR.length);
+            chunk.get(from, bytes, length, to - from);
+            length += to - from;
+            put(TextHandSink.SEPARATOR);
+            if ((winners & (winners - 1)) != 0) {
+                put(TIE);
+                for (int rest = winners; rest != 0; rest &= rest - 1) {
+                    bytes[length++] = ' ';
+                    putSeat(Integer.numberOfTrailingZeros(rest) + 1);
+                }
+            } else {
+                putSeat(Integer.numberOfTrailingZeros(winners) + 1);
+            }
+            put(HandSink.LINE_SEPARATOR);
+            tally.add(seats, winners);
+        }
+
+        private void putSeat(int seat) {
+            if (seat >= 10) {
+                bytes[length++] = (byte) ('0' + seat / 10);
+            }
+            bytes[length++] = (byte) ('0' + seat % 10);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package io;
+
+/**
+ * This class represents the outcome of a file of showdowns, and contains functionality to count the showdowns and,
+ * for each seat, the pots it won outright and the pots it split
+ *
+ * Seats are numbered from 1, in the order their hands appear on a line
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public final class ShowdownTally {
+    private final long[] wins;
+    private final long[] splits;
+    private long showdowns;
+    private long ties;
+    private int seats;
+
+    /**
+     * Method accepts the most seats a showdown may have
+     *
+     * @param maxSeats int
+     */
+    ShowdownTally(int maxSeats) {
+        this.wins = new long[maxSeats];
+        this.splits = new long[maxSeats];
+    }
+
+    /**
+     * Counts a showdown of the given number of seats
+     *
+     * @param seatCount int seats in the showdown
+     * @param winners int bitmask of the winning seats, bit 0 being seat 1
+     */
+    void add(int seatCount, int winners) {
+        showdowns++;
+        seats = Math.max(seats, seatCount);
+        if ((winners & (winners - 1)) == 0) {
+            wins[Integer.numberOfTrailingZeros(winners)]++;
+            return;
+        }
+        ties++;
+        for (int rest = winners; rest != 0; rest &= rest - 1) {
+            splits[Integer.numberOfTrailingZeros(rest)]++;
+        }
+    }
+
+    /**
+     * Adds the counts of another tally to this one
+     *
+     * @param other ShowdownTally
+     */
+    void merge(ShowdownTally other) {
+        showdowns += other.showdowns;
+        ties += other.ties;
+        seats = Math.max(seats, other.seats);
+        for (int i = 0; i < wins.length; i++) {
+            wins[i] += other.wins[i];
+            splits[i] += other.splits[i];
+        }
+    }
+
+    /**
+     * Gets the number of showdowns counted
+     *
+     * @return long showdowns
+     */
+    public long showdowns() {
+        return showdowns;
+    }
+
+    /**
+     * Gets the number of showdowns that ended in a split pot
+     *
+     * @return long ties
+     */
+    public long ties() {
+        return ties;
+    }
+
+    /**
+     * Gets the most seats any showdown counted had
+     *
+     * @return int seats
+     */
+    public int seats() {
+        return seats;
+    }
+
+    /**
+     * Gets the number of pots a seat won outright
+     *
+     * @param seat int seat, from 1
+     * @return long wins
+     */
+    public long wins(int seat) {
+        return wins[seat - 1];
+    }
+
+    /**
+     * Gets the number of pots a seat split with at least one other seat
+     *
+     * @param seat int seat, from 1
+     * @return long splits
+     */
+    public long splits(int seat) {
+        return splits[seat - 1];
+    }
+}
@@ -0,0 +1,59 @@
+package io;
+
+import entities.HandEvaluator;
+import enums.HandCategory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This class represents a sink that only counts the hands of each category, writing one "category TAB count" line
+ * per category from weakest to strongest and a total once the run is finished, so nothing is formatted per hand
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+final class SummaryHandSink extends HandSink {
+    private static final byte[] TOTAL = "Total".getBytes(StandardCharsets.US_ASCII);
+
+    private final long[] counts = new long[HandCategory.COUNT];
+
+    SummaryHandSink(OutputStream output) {
+        super(output);
+    }
+
+    @Override
+    void append(int[] ids, int strength) {
+        counts[HandEvaluator.categoryOf(strength)]++;
+    }
+
+    @Override
+    void end() throws IOException {
+        for (int category = 0; category < counts.length; category++) {
+            putLine(CATEGORY_NAMES[category], counts[category]);
+        }
+        putLine(TOTAL, count());
+    }
+
+    /**
+     * Gets the number of hands of each category written so far
+     *
+     * @return long[] counts, indexed by HandCategory ordinal
+     */
+    long[] counts() {
+        return counts.clone();
+    }
+
+    /**
+     * Utility method
+     * Puts a name and count as a line
+     */
+    private void putLine(byte[] name, long count) throws IOException {
+        reserve(name.length + 1 + MAX_DIGITS + LINE_SEPARATOR.length);
+        put(name);
+        put((byte) '\t');
+        putDecimal(count);
+        put(LINE_SEPARATOR);
+    }
+}
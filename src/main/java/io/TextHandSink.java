@@ -0,0 +1,35 @@
+package io;
+
+import entities.HandEvaluator;
+import entities.HandParser;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This class represents a sink writing each hand in its original card order with its name, one per line
+ * ("QC JC KC AC TC => Royal Flush"), the same output as the line by line mode
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+final class TextHandSink extends HandSink {
+    static final byte[] SEPARATOR = " => ".getBytes(StandardCharsets.US_ASCII);
+
+    //longest line a hand can need, as "XX XX XX XX XX" plus the separators and longest name
+    static final int MAX_LINE_LENGTH = HandParser.HAND_SIZE * 3 + SEPARATOR.length + LONGEST_NAME + LINE_SEPARATOR.length;
+
+    TextHandSink(OutputStream output) {
+        super(output);
+    }
+
+    @Override
+    void append(int[] ids, int strength) throws IOException {
+        reserve(MAX_LINE_LENGTH);
+        putCards(ids);
+        put(SEPARATOR);
+        put(CATEGORY_NAMES[HandEvaluator.categoryOf(strength)]);
+        put(LINE_SEPARATOR);
+    }
+}
@@ -0,0 +1,106 @@
+package metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class represents a concurrent log linear histogram of latencies in nanoseconds, and contains functionality to
+ * record a latency and take a snapshot of the counts
+ *
+ * Like an HDR histogram, each power of two range is split into SUB_BUCKETS equal buckets, so any latency is held to
+ * within 1/SUB_BUCKETS of its value with a fixed number of buckets. Every bucket is a LongAdder, whose cells are
+ * striped across threads, so threads recording at once do not contend on one counter
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public final class LatencyHistogram {
+    static final int SUB_BUCKET_BITS = 4;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    //values below SUB_BUCKETS get a bucket each, then one group of SUB_BUCKETS per power of two up to 2^63
+    static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a latency
+     *
+     * @param nanos long latency, where negative values count as 0
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        buckets[bucketIndex(value)].increment();
+        total.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * Copies the current counts, which may be mid update when other threads are recording
+     *
+     * @return long[] count of each bucket
+     */
+    public long[] bucketCounts() {
+        long[] counts = new long[buckets.length];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    /**
+     * Gets the sum of every latency recorded
+     *
+     * @return long total nanoseconds
+     */
+    public long totalNanos() {
+        return total.sum();
+    }
+
+    /**
+     * Gets the largest latency recorded
+     *
+     * @return long nanoseconds
+     */
+    public long maxNanos() {
+        return max.get();
+    }
+
+    /**
+     * Gets the bucket a latency falls in
+     *
+     * @param value long latency, not negative
+     * @return int bucket index
+     */
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - SUB_BUCKET_BITS - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Gets the largest latency a bucket holds
+     *
+     * @param index int bucket index
+     * @return long nanoseconds
+     */
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lower = (long) (SUB_BUCKETS | index % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,63 @@
+package metrics;
+
+import enums.PipelineStage;
+
+import java.io.PrintStream;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * This class represents the metrics of every stage of evaluating a hand file, and contains functionality to look up
+ * the metrics of a stage, take a snapshot of them all and print them as a table
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public final class PipelineMetrics {
+    private final Map<PipelineStage, StageMetrics> stages = new EnumMap<>(PipelineStage.class);
+
+    public PipelineMetrics() {
+        for (PipelineStage stage : PipelineStage.values()) {
+            stages.put(stage, new StageMetrics());
+        }
+    }
+
+    /**
+     * Gets the metrics of a stage to record into
+     *
+     * @param stage PipelineStage
+     * @return StageMetrics
+     */
+    public StageMetrics stage(PipelineStage stage) {
+        return stages.get(stage);
+    }
+
+    /**
+     * Copies the current metrics of every stage
+     *
+     * @return Map of each stage to its snapshot, in pipeline order
+     */
+    public Map<PipelineStage, StageSnapshot> snapshot() {
+        Map<PipelineStage, StageSnapshot> snapshot = new EnumMap<>(PipelineStage.class);
+        stages.forEach((stage, metrics) -> snapshot.put(stage, metrics.snapshot()));
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    /**
+     * Prints a table of the count, errors, latency percentiles and share of time of each stage
+     *
+     * @param output PrintStream to print to
+     */
+    public void report(PrintStream output) {
+        Map<PipelineStage, StageSnapshot> snapshot = snapshot();
+        long totalNanos = snapshot.values().stream().mapToLong(StageSnapshot::totalNanos).sum();
+
+        output.printf("%-10s %12s %8s %10s %10s %10s %10s %12s %10s %6s%n", "Stage", "Count", "Errors",
+                "Mean ns", "p50 ns", "p99 ns", "p99.9 ns", "Max ns", "Total ms", "Share");
+        snapshot.forEach((stage, metrics) -> output.printf("%-10s %,12d %,8d %,10.0f %,10d %,10d %,10d %,12d %,10.1f %5.1f%%%n",
+                stage, metrics.count(), metrics.errors(), metrics.meanNanos(), metrics.percentileNanos(50),
+                metrics.percentileNanos(99), metrics.percentileNanos(99.9), metrics.maxNanos(),
+                metrics.totalNanos() / 1_000_000.0, totalNanos == 0 ? 0.0 : metrics.totalNanos() * 100.0 / totalNanos));
+    }
+}
@@ -0,0 +1,48 @@
+package metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class represents the metrics of one pipeline stage, and contains functionality to count each run and error of
+ * the stage and record its latency, safely from many threads at once
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public final class StageMetrics {
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LatencyHistogram latencies = new LatencyHistogram();
+
+    /**
+     * Records a successful run of the stage that started at the given time
+     * The end time is returned so the next stage can start from it without reading the clock again
+     *
+     * @param startNanos long System.nanoTime when the stage started
+     * @return long System.nanoTime when the stage ended
+     */
+    public long record(long startNanos) {
+        long end = System.nanoTime();
+        count.increment();
+        latencies.record(end - startNanos);
+        return end;
+    }
+
+    /**
+     * Records a failed run of the stage, which counts as a run but not towards its latencies
+     */
+    public void error() {
+        count.increment();
+        errors.increment();
+    }
+
+    /**
+     * Copies the current metrics of the stage
+     *
+     * @return StageSnapshot
+     */
+    public StageSnapshot snapshot() {
+        return new StageSnapshot(count.sum(), errors.sum(), latencies.totalNanos(), latencies.maxNanos(),
+                latencies.bucketCounts());
+    }
+}
@@ -0,0 +1,56 @@
+package metrics;
+
+/**
+ * This record represents the metrics of a pipeline stage at a point in time: how many times it ran, how many of
+ * those failed, and the histogram of its latencies
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public record StageSnapshot(long count, long errors, long totalNanos, long maxNanos, long[] buckets) {
+
+    /**
+     * Gets the mean latency
+     *
+     * @return double nanoseconds, or 0 when the stage never ran
+     */
+    public double meanNanos() {
+        long recorded = recorded();
+        return recorded == 0 ? 0.0 : (double) totalNanos / recorded;
+    }
+
+    /**
+     * Gets the latency at a percentile, to within the precision of the histogram buckets
+     *
+     * @param percentile double from 0 to 100
+     * @return long nanoseconds, being the upper bound of the bucket holding that percentile and at most the maximum
+     */
+    public long percentileNanos(double percentile) {
+        long recorded = recorded();
+        if (recorded == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(recorded * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.bucketUpperBound(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    /**
+     * Gets the number of latencies in the histogram
+     *
+     * @return long recorded latencies
+     */
+    public long recorded() {
+        long recorded = 0;
+        for (long bucket : buckets) {
+            recorded += bucket;
+        }
+        return recorded;
+    }
+}
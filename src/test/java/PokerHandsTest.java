@@ -0,0 +1,282 @@
+import entities.EquityCalculator;
+import enums.OutputFormat;
+import enums.PipelineStage;
+import io.BinaryHandWriter;
+import io.HandSink;
+import io.RejectWriter;
+import metrics.PipelineMetrics;
+import metrics.StageSnapshot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PokerHandsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void parseArgs_splitsOptionsFromArguments() {
+        //Arrange
+        Map<String, String> options = new HashMap<>();
+        List<String> arguments = new ArrayList<>();
+
+        //Act
+        PokerHands.parseArgs(new String[]{"--parallel", "--rejects=bad.txt", "Hands.txt"}, options, arguments);
+
+        //Assert
+        assertEquals(Map.of("parallel", "", "rejects", "bad.txt"), options);
+        assertEquals(List.of("Hands.txt"), arguments);
+    }
+
+    @Test
+    void findUsageError_convertWithoutInput() {
+        //Arrange
+        Map<String, String> options = Map.of("convert", "Hands.bin");
+
+        //Act
+        String error = PokerHands.findUsageError(options, List.of());
+
+        //Assert
+        assertNotNull(error);
+        assertNull(PokerHands.findUsageError(options, List.of("Hands.txt")));
+    }
+
+    @Test
+    void findUsageError_metricsWithChunkedModes() {
+        //Act
+        String parallelError = PokerHands.findUsageError(Map.of("metrics", "", "parallel", ""), List.of("Hands.txt"));
+        String showdownError = PokerHands.findUsageError(Map.of("metrics", "", "showdown", ""), List.of("Hands.txt"));
+
+        //Assert
+        assertNotNull(parallelError);
+        assertNotNull(showdownError);
+        assertNull(PokerHands.findUsageError(Map.of("metrics", "", "rejects", "bad.txt", "format", "csv"),
+                List.of("Hands.txt")));
+    }
+
+    @Test
+    void findUsageError_equityWithTooManyPlayers() {
+        //Arrange
+        List<String> players = new ArrayList<>();
+        for (int i = 0; i < 24; i++) {
+            players.add("AS AH");
+        }
+
+        //Act
+        String error = PokerHands.findUsageError(Map.of("equity", ""), players);
+
+        //Assert
+        assertEquals(EquityCalculator.tooManyPlayers(24), error);
+        assertNull(PokerHands.findUsageError(Map.of("equity", ""), players.subList(0, 23)));
+    }
+
+    @Test
+    void findUsageError_binaryFileWithRejectsOrMetrics() throws IOException {
+        //Arrange
+        Path text = tempDir.resolve("hands.txt");
+        Path binary = tempDir.resolve("hands.bin");
+        Files.writeString(text, "QC JC KC AC TC\n");
+        BinaryHandWriter.convert(text, binary, null);
+
+        //Act
+        String rejectsError = PokerHands.findUsageError(Map.of("rejects", "bad.txt"), binary.toString());
+        String metricsError = PokerHands.findUsageError(Map.of("metrics", ""), binary.toString());
+
+        //Assert
+        assertNotNull(rejectsError);
+        assertNotNull(metricsError);
+        assertNull(PokerHands.findUsageError(Map.of("rejects", "bad.txt"), text.toString()));
+        assertNull(PokerHands.findUsageError(Map.of(), binary.toString()));
+    }
+
+    @Test
+    void findUsageError_cacheOutsideChunkedModes() throws IOException {
+        //Arrange
+        Path text = tempDir.resolve("hands.txt");
+        Path binary = tempDir.resolve("hands.bin");
+        Files.writeString(text, "QC JC KC AC TC\n");
+        BinaryHandWriter.convert(text, binary, null);
+
+        //Act
+        String showdownError = PokerHands.findUsageError(Map.of("cache", "1024", "showdown", ""), List.of("Hands.txt"));
+        String lineError = PokerHands.findUsageError(Map.of("cache", "1024", "format", "csv"), text.toString());
+
+        //Assert
+        assertNotNull(showdownError);
+        assertNotNull(lineError);
+        assertNull(PokerHands.findUsageError(Map.of("cache", "1024", "parallel", ""), List.of("Hands.txt")));
+        assertNull(PokerHands.findUsageError(Map.of("cache", "1024", "parallel", "", "format", "csv"), text.toString()));
+        assertNull(PokerHands.findUsageError(Map.of("cache", "1024"), binary.toString()));
+    }
+
+    @Test
+    void readTestsTxtFile_reportsCacheWithFormat() throws IOException {
+        //Arrange
+        Path file = tempDir.resolve("hands.txt");
+        Files.writeString(file, "QC JC KC AC TC\nQC JC KC AC TC\n");
+        PrintStream standardOut = System.out;
+        PrintStream standardErr = System.err;
+        ByteArrayOutputStream reported = new ByteArrayOutputStream();
+
+        //Act
+        System.setOut(new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.US_ASCII));
+        System.setErr(new PrintStream(reported, true, StandardCharsets.US_ASCII));
+        try {
+            PokerHands.readTestsTxtFile(file.toString(), OutputFormat.CSV, true, 1,
+                    PokerHands.getCache(Map.of("cache", "1024")), null, null);
+        } finally {
+            System.setOut(standardOut);
+            System.setErr(standardErr);
+        }
+
+        //Assert
+        assertTrue(reported.toString(StandardCharsets.US_ASCII).contains("Cache of 1,024 entries: 1 hits, 1 misses"));
+    }
+
+    @Test
+    void evaluateLines_writesHandsInLineOrder() throws IOException {
+        //Arrange
+        BufferedReader input = new BufferedReader(new StringReader("QC JC KC AC TC\n2S 4H 7D 6D 3H\n9H 9D 3S KS 3C\n"));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        HandSink sink = HandSink.open(OutputFormat.TEXT, output);
+
+        //Act
+        long count = PokerHands.evaluateLines(input, sink, null, null);
+        sink.finish();
+
+        //Assert
+        assertEquals(3, count);
+        assertEquals("QC JC KC AC TC => Royal Flush" + System.lineSeparator()
+                        + "2S 4H 7D 6D 3H => High Card" + System.lineSeparator()
+                        + "9H 9D 3S KS 3C => Two Pair" + System.lineSeparator(),
+                output.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void evaluateLines_skipsBlankLines() throws IOException {
+        //Arrange
+        BufferedReader input = new BufferedReader(new StringReader("\nQC JC KC AC TC\n \t\r\n\n2S 4H 7D 6D 3H\n\n"));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        HandSink sink = HandSink.open(OutputFormat.TEXT, output);
+
+        //Act
+        long count = PokerHands.evaluateLines(input, sink, null, null);
+        sink.finish();
+
+        //Assert
+        assertEquals(2, count);
+        assertEquals("QC JC KC AC TC => Royal Flush" + System.lineSeparator()
+                        + "2S 4H 7D 6D 3H => High Card" + System.lineSeparator(),
+                output.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void evaluateLines_badLineFailsWithLineNumber() {
+        //Arrange
+        BufferedReader input = new BufferedReader(new StringReader("QC JC KC AC TC\n\nQC JC KC AC\n"));
+        HandSink sink = HandSink.open(OutputFormat.TEXT, new ByteArrayOutputStream());
+
+        //Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> PokerHands.evaluateLines(input, sink, null, null));
+
+        //Assert
+        assertEquals("Line 3: A hand must contain 5 cards", exception.getMessage());
+    }
+
+    @Test
+    void evaluateLines_badLinesGoToRejects() throws IOException {
+        //Arrange
+        BufferedReader input = new BufferedReader(new StringReader("QC JC KC AC TC\nQC QC KC AC TC\n2S 4H 7D 6D 3H\n"));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ByteArrayOutputStream rejected = new ByteArrayOutputStream();
+        HandSink sink = HandSink.open(OutputFormat.CSV, output);
+
+        //Act
+        long count;
+        try (RejectWriter rejects = new RejectWriter(rejected)) {
+            count = PokerHands.evaluateLines(input, sink, rejects, null);
+        }
+        sink.finish();
+
+        //Assert
+        assertEquals(2, count);
+        assertEquals("2\tDuplicate Card In Hand\tQC QC KC AC TC" + System.lineSeparator(),
+                rejected.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void evaluateLines_metricsCountEveryLineAndError() throws IOException {
+        //Arrange
+        BufferedReader input = new BufferedReader(new StringReader(
+                "QC JC KC AC TC\nQX JC KC AC TC\nQC JC KC AC\nQC QC KC AC TC\n2S 4H 7D 6D 3H\n"));
+        HandSink sink = HandSink.open(OutputFormat.SUMMARY, new ByteArrayOutputStream());
+        PipelineMetrics metrics = new PipelineMetrics();
+
+        //Act
+        try (RejectWriter rejects = new RejectWriter(new ByteArrayOutputStream())) {
+            PokerHands.evaluateLines(input, sink, rejects, metrics);
+        }
+        Map<PipelineStage, StageSnapshot> snapshot = metrics.snapshot();
+
+        //Assert
+        assertEquals(5, snapshot.get(PipelineStage.FILE_READ).count());
+        assertEquals(0, snapshot.get(PipelineStage.FILE_READ).errors());
+        assertEquals(1, snapshot.get(PipelineStage.PARSE).errors());
+        assertEquals(2, snapshot.get(PipelineStage.CONSTRUCT).errors());
+        assertEquals(2, snapshot.get(PipelineStage.EVALUATE).count());
+        assertEquals(2, snapshot.get(PipelineStage.FORMAT).count());
+    }
+
+    @Test
+    void readTestsTxtFile_badLineKeepsEarlierOutput() throws IOException {
+        //Arrange
+        Path file = tempDir.resolve("hands.txt");
+        Files.writeString(file, "QC JC KC AC TC\nQC JC KC AC\n2S 4H 7D 6D 3H\n");
+        String expected = "QC JC KC AC TC => Royal Flush" + System.lineSeparator();
+
+        //Act, Assert
+        assertEquals(expected, printedBeforeFailure(() -> PokerHands.readTestsTxtFile(file.toString(),
+                OutputFormat.TEXT, false, 1, null, null, null)));
+        assertEquals(expected, printedBeforeFailure(() -> PokerHands.readTestsTxtFile(file.toString(),
+                OutputFormat.TEXT, true, 1, null, null, null)));
+        assertEquals(expected, printedBeforeFailure(() -> PokerHands.readTestsTxtFileInParallel(file.toString(),
+                1, null, null)));
+    }
+
+    private static String printedBeforeFailure(ThrowingRun run) {
+        PrintStream standardOut = System.out;
+        ByteArrayOutputStream printed = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(printed, true, StandardCharsets.US_ASCII));
+        try {
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, run::run);
+            assertEquals("Line 2: A hand must contain 5 cards", exception.getMessage());
+        } finally {
+            System.setOut(standardOut);
+        }
+        return printed.toString(StandardCharsets.US_ASCII);
+    }
+
+    private interface ThrowingRun {
+        void run() throws IOException;
+    }
+}
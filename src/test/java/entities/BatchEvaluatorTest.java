@@ -0,0 +1,100 @@
+package entities;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static entities.TestHands.HANDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BatchEvaluatorTest {
+
+    @Test
+    void evaluate_masks() {
+        //Arrange
+        long[] masks = new long[HANDS.size()];
+        for (int i = 0; i < HANDS.size(); i++) {
+            masks[i] = HandFactory.MakeHandFromString(HANDS.get(i)).getCardMask();
+        }
+        byte[] categories = new byte[HANDS.size()];
+        int[] strengths = new int[HANDS.size()];
+
+        //Act
+        BatchEvaluator.evaluate(masks, masks.length, categories, strengths);
+
+        //Assert
+        assertMatchesHands(HANDS.size(), categories, strengths);
+    }
+
+    @Test
+    void evaluate_malformedMask() {
+        //Arrange
+        //four cards, and five bits with one beyond the deck
+        long[] masks = {HandFactory.MakeHandFromString(HANDS.get(0)).getCardMask(), 0b1111L, 0b1111L | 1L << 60};
+        byte[] categories = new byte[3];
+        int[] strengths = new int[3];
+
+        //Act
+        IllegalArgumentException fourCards = assertThrows(IllegalArgumentException.class,
+                () -> BatchEvaluator.evaluate(masks, 2, categories, strengths));
+        masks[1] = masks[0];
+        IllegalArgumentException beyondDeck = assertThrows(IllegalArgumentException.class,
+                () -> BatchEvaluator.evaluate(masks, 3, categories, strengths));
+
+        //Assert
+        assertEquals("Invalid Hand Mask 1", fourCards.getMessage());
+        assertEquals("Invalid Hand Mask 2", beyondDeck.getMessage());
+        assertEquals(0, strengths[0]);
+    }
+
+    @Test
+    void evaluate_byteBlock() {
+        //Arrange
+        byte[] block = ("\n" + String.join("\r\n", HANDS) + "\n\n").getBytes(StandardCharsets.US_ASCII);
+        byte[] categories = new byte[HANDS.size()];
+        int[] strengths = new int[HANDS.size()];
+
+        //Act
+        int count = BatchEvaluator.evaluate(block, 0, block.length, categories, strengths);
+
+        //Assert
+        assertMatchesHands(count, categories, strengths);
+    }
+
+    @Test
+    void evaluate_charBlock() {
+        //Arrange
+        String block = String.join("\n", HANDS);
+        byte[] categories = new byte[HANDS.size()];
+        int[] strengths = new int[HANDS.size()];
+
+        //Act
+        int count = BatchEvaluator.evaluate(block, categories, strengths);
+
+        //Assert
+        assertMatchesHands(count, categories, strengths);
+    }
+
+    @Test
+    void evaluate_exceedsCapacity() {
+        //Arrange
+        String block = String.join("\n", HANDS);
+
+        //Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> BatchEvaluator.evaluate(block, new byte[2], new int[2]));
+
+        //Assert
+        assertEquals("Batch exceeds output capacity", exception.getMessage());
+    }
+
+    private static void assertMatchesHands(int count, byte[] categories, int[] strengths) {
+        assertEquals(HANDS.size(), count);
+        for (int i = 0; i < HANDS.size(); i++) {
+            Hand hand = HandFactory.MakeHandFromString(HANDS.get(i));
+            assertEquals(hand.getStrength(), strengths[i], HANDS.get(i));
+            assertEquals(hand.handName(), HandEvaluator.categoryName(categories[i]), HANDS.get(i));
+        }
+    }
+}
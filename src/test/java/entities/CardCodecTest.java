@@ -0,0 +1,84 @@
+package entities;
+
+import enums.Rank;
+import enums.Suit;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CardCodecTest {
+
+    @Test
+    void id_roundTripsEveryCard() {
+        for (Suit suit : Suit.values()) {
+            for (Rank rank : Rank.values()) {
+                //Arrange
+                Card card = new Card(rank, suit);
+
+                //Act
+                int id = CardCodec.id(card);
+
+                //Assert
+                assertEquals(card, CardCodec.card(id));
+                assertEquals(rank, CardCodec.rank(id));
+                assertEquals(suit, CardCodec.suit(id));
+            }
+        }
+    }
+
+    @Test
+    void id_isStableAndDense() {
+        //Arrange
+        Card first = new Card(Rank.ACE, Suit.HEART);
+        Card last = new Card(Rank.KING, Suit.CLUB);
+
+        //Act
+        int firstId = CardCodec.id(first);
+        int lastId = CardCodec.id(last);
+
+        //Assert
+        assertEquals(0, firstId);
+        assertEquals(CardCodec.CARD_COUNT - 1, lastId);
+    }
+
+    @Test
+    void mask_roundTripsCards() {
+        //Arrange
+        Card[] cards = {
+                Card.CreateCard('A', 'H'),
+                Card.CreateCard('T', 'D'),
+                Card.CreateCard('2', 'S'),
+                Card.CreateCard('K', 'C')
+        };
+
+        //Act
+        long mask = CardCodec.mask(cards);
+
+        //Assert
+        assertEquals(4, Long.bitCount(mask));
+        assertArrayEquals(cards, CardCodec.cards(mask));
+    }
+
+    @Test
+    void suitRanks_readsOneSuit() {
+        //Arrange
+        long mask = CardCodec.mask(Card.CreateCard('A', 'S'), Card.CreateCard('3', 'S'), Card.CreateCard('3', 'D'));
+
+        //Act
+        int spades = CardCodec.suitRanks(mask, Suit.SPADE.ordinal());
+
+        //Assert
+        assertEquals(0b101, spades);
+    }
+
+    @Test
+    void card_invalidId() {
+        //Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> CardCodec.card(52));
+
+        //Assert
+        assertEquals("Invalid Card Id", exception.getMessage());
+    }
+}
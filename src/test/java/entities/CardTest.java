@@ -3,6 +3,7 @@ package entities;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class CardTest {
@@ -33,4 +34,34 @@ public class CardTest {
         //Assert
         assertEquals("Invalid Card", exception.getMessage());
     }
+
+    @Test
+    void createCard_returnsSharedInstance() {
+        //Act
+        Card first = Card.CreateCard('Q', 'H');
+        Card second = Card.CreateCard('Q', 'H');
+
+        //Assert
+        assertSame(first, second);
+    }
+
+    @Test
+    void createCardId_validCard() {
+        //Act
+        int id = Card.CreateCardId('T', 'C');
+
+        //Assert
+        assertEquals(CardCodec.id(Card.CreateCard('T', 'C')), id);
+    }
+
+    @Test
+    void createCardId_invalidCard() {
+        //Act
+        int lowerCase = Card.CreateCardId('t', 'c');
+        int outOfRange = Card.CreateCardId('\u00e9', 'C');
+
+        //Assert
+        assertEquals(-1, lowerCase);
+        assertEquals(-1, outOfRange);
+    }
 }
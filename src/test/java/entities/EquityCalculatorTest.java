@@ -0,0 +1,137 @@
+package entities;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EquityCalculatorTest {
+
+    @Test
+    void calculate_acesAgainstKings() {
+        //Arrange
+        Card[][] players = {
+                HandFactory.MakeCardsFromString("AS AH"),
+                HandFactory.MakeCardsFromString("KS KH")
+        };
+
+        //Act
+        EquityResult result = EquityCalculator.calculate(players, new Card[0], 400_000, ForkJoinPool.commonPool(), 1L);
+
+        //Assert
+        //aces win about 82% of the time against kings
+        assertEquals(82.0, result.winPercent(0), 1.0);
+        assertEquals(100.0, result.winPercent(0) + result.tiePercent(0) + result.lossPercent(0), 1e-9);
+        assertEquals(result.wins()[0], result.losses(1));
+    }
+
+    @Test
+    void calculate_completeBoardIsDecided() {
+        //Arrange
+        Card[][] players = {
+                HandFactory.MakeCardsFromString("AS KS"),
+                HandFactory.MakeCardsFromString("QH QD")
+        };
+        Card[] board = HandFactory.MakeCardsFromString("QS JS TS 2D 3C");
+
+        //Act
+        EquityResult result = EquityCalculator.calculate(players, board, 1_000, ForkJoinPool.commonPool(), 1L);
+
+        //Assert
+        assertEquals(100.0, result.winPercent(0));
+        assertEquals(100.0, result.lossPercent(1));
+    }
+
+    @Test
+    void calculate_boardPlaysForEveryone() {
+        //Arrange
+        Card[][] players = {
+                HandFactory.MakeCardsFromString("2S 3H"),
+                HandFactory.MakeCardsFromString("2D 3C"),
+                HandFactory.MakeCardsFromString("4D 2C")
+        };
+        Card[] board = HandFactory.MakeCardsFromString("AS KS QS JS TS");
+
+        //Act
+        EquityResult result = EquityCalculator.calculate(players, board, 1_000, ForkJoinPool.commonPool(), 1L);
+
+        //Assert
+        for (int player = 0; player < result.players(); player++) {
+            assertEquals(100.0, result.tiePercent(player));
+        }
+    }
+
+    @Test
+    void calculate_duplicateCard() {
+        //Arrange
+        Card[][] players = {
+                HandFactory.MakeCardsFromString("AS AH"),
+                HandFactory.MakeCardsFromString("AS KH")
+        };
+
+        //Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> EquityCalculator.calculate(players, new Card[0], 1_000, ForkJoinPool.commonPool()));
+
+        //Assert
+        assertEquals("Duplicate Card In Hand", exception.getMessage());
+    }
+
+    @Test
+    void calculate_noTrials() {
+        //Arrange
+        Card[][] players = {
+                HandFactory.MakeCardsFromString("AS AH"),
+                HandFactory.MakeCardsFromString("KS KH")
+        };
+
+        //Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> EquityCalculator.calculate(players, new Card[0], 0, ForkJoinPool.commonPool()));
+
+        //Assert
+        assertEquals("Equity needs at least 1 trial", exception.getMessage());
+    }
+
+    @Test
+    void calculate_moreHoleCardsThanDeckAllows() {
+        //Arrange
+        Card[][] players = new Card[24][];
+        for (int i = 0; i < players.length; i++) {
+            players[i] = new Card[]{CardCodec.card(i * 2), CardCodec.card(i * 2 + 1)};
+        }
+
+        //Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> EquityCalculator.calculate(players, new Card[0], 1_000, ForkJoinPool.commonPool()));
+
+        //Assert
+        assertEquals("Equity needs at most 23 players, as 24 players need 53 cards with the board from a deck of 52",
+                exception.getMessage());
+    }
+
+    @Test
+    void calculate_suitRelabelledMatchupsGiveCloseResults() {
+        //Arrange
+        Card[][] players = {
+                HandFactory.MakeCardsFromString("AS KS"),
+                HandFactory.MakeCardsFromString("QH QD")
+        };
+        Card[][] relabelled = {
+                HandFactory.MakeCardsFromString("AH KH"),
+                HandFactory.MakeCardsFromString("QC QS")
+        };
+
+        //Act
+        EquityResult result = EquityCalculator.calculate(players, new Card[0], 50_000, ForkJoinPool.commonPool(), 3L);
+        EquityResult other = EquityCalculator.calculate(relabelled, new Card[0], 50_000, ForkJoinPool.commonPool(), 5L);
+
+        //Assert
+        for (int i = 0; i < players.length; i++) {
+            assertEquals(result.winPercent(i), other.winPercent(i), 1.5);
+            assertEquals(result.tiePercent(i), other.tiePercent(i), 1.5);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package entities;
+
+import enums.EvictionPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EvaluationCacheTest {
+
+    @Test
+    void strength_missThenHit() {
+        //Arrange
+        EvaluationCache cache = new EvaluationCache(1024, EvictionPolicy.CLOCK);
+        long mask = HandFactory.MakeHandFromString("9C 3H 9S 9H 3S").getCardMask();
+
+        //Act
+        int first = cache.strength(mask);
+        int second = cache.strength(mask);
+
+        //Assert
+        assertEquals(HandEvaluator.strength(mask), first);
+        assertEquals(first, second);
+        assertEquals(1, cache.hits());
+        assertEquals(1, cache.misses());
+        assertEquals(0.5, cache.hitRate());
+    }
+
+    @Test
+    void strength_canonicalKeysShareSuitRelabellings() {
+        //Arrange
+        EvaluationCache cache = new EvaluationCache(1024, EvictionPolicy.LRU);
+        long hearts = HandFactory.MakeHandFromString("2H 5H 9H JH KH").getCardMask();
+        long clubs = HandFactory.MakeHandFromString("2C 5C 9C JC KC").getCardMask();
+
+        //Act
+        cache.strength(hearts);
+        int actual = cache.strength(clubs);
+
+        //Assert
+        assertEquals(HandEvaluator.strength(clubs), actual);
+        assertEquals(1, cache.hits());
+    }
+
+    @Test
+    void strength_rawKeysKeepSuitRelabellingsApart() {
+        //Arrange
+        EvaluationCache cache = new EvaluationCache(1024, EvictionPolicy.CLOCK, false, HandEvaluator::strength);
+        long hearts = HandFactory.MakeHandFromString("2H 5H 9H JH KH").getCardMask();
+        long clubs = HandFactory.MakeHandFromString("2C 5C 9C JC KC").getCardMask();
+
+        //Act
+        cache.strength(hearts);
+        cache.strength(clubs);
+
+        //Assert
+        assertEquals(0, cache.hits());
+        assertEquals(2, cache.misses());
+    }
+
+    @Test
+    void strength_boundedByCapacity() {
+        //Arrange
+        AtomicInteger evaluations = new AtomicInteger();
+        EvaluationCache cache = new EvaluationCache(5, EvictionPolicy.LRU, false, mask -> {
+            evaluations.incrementAndGet();
+            return HandEvaluator.strength(mask);
+        });
+        Random random = new Random(17);
+
+        //Act
+        for (int i = 0; i < 1_000; i++) {
+            cache.strength(TestHands.randomMask(random, HandParser.HAND_SIZE));
+        }
+
+        //Assert
+        assertEquals(8, cache.capacity());
+        assertEquals(evaluations.get(), cache.misses());
+        assertTrue(cache.misses() > 900);
+    }
+
+    @Test
+    void strength_policiesKeepHotEntries() {
+        for (EvictionPolicy policy : EvictionPolicy.values()) {
+            //Arrange
+            EvaluationCache cache = new EvaluationCache(4, policy, false, HandEvaluator::strength);
+            long hot = HandFactory.MakeHandFromString("QC JC KC AC TC").getCardMask();
+            Random random = new Random(23);
+
+            //Act
+            cache.strength(hot);
+            for (int i = 0; i < 100; i++) {
+                cache.strength(TestHands.randomMask(random, HandParser.HAND_SIZE));
+                cache.strength(hot);
+            }
+
+            //Assert
+            assertEquals(HandEvaluator.strength(hot), cache.get(hot), policy.toString());
+            assertTrue(cache.hits() >= 90, policy.toString());
+        }
+    }
+
+    @Test
+    void strength_concurrentReadersSeeOnlyMatchingStrengths() {
+        //Arrange
+        EvaluationCache cache = new EvaluationCache(64, EvictionPolicy.CLOCK, false, HandEvaluator::strength);
+        long[] masks = new long[512];
+        Random random = new Random(29);
+        for (int i = 0; i < masks.length; i++) {
+            masks[i] = TestHands.randomMask(random, HandParser.HAND_SIZE);
+        }
+
+        //Act
+        long wrong = ForkJoinPool.commonPool().submit(() -> IntStream.range(0, 400_000).parallel()
+                .filter(i -> cache.strength(masks[i % masks.length]) != HandEvaluator.strength(masks[i % masks.length]))
+                .count()).join();
+
+        //Assert
+        assertEquals(0, wrong);
+        assertEquals(400_000, cache.hits() + cache.misses());
+    }
+
+    @Test
+    void constructor_invalidCapacity() {
+        //Act
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> new EvaluationCache(0, EvictionPolicy.CLOCK));
+
+        //Assert
+        assertEquals("Cache capacity must be positive", ex.getMessage());
+    }
+
+    @Test
+    void constructor_capacityTooLarge() {
+        //Act
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> new EvaluationCache(EvaluationCache.MAX_CAPACITY + 1, EvictionPolicy.CLOCK));
+
+        //Assert
+        assertEquals("Cache capacity must be at most 1073741824", ex.getMessage());
+    }
+
+    @Test
+    void fromName_ignoresCase() {
+        //Act
+        EvictionPolicy policy = EvictionPolicy.fromName("lru");
+
+        //Assert
+        assertEquals(EvictionPolicy.LRU, policy);
+        assertThrows(IllegalArgumentException.class, () -> EvictionPolicy.fromName("random"));
+    }
+}
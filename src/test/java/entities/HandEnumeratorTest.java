@@ -0,0 +1,33 @@
+package entities;
+
+import enums.HandCategory;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HandEnumeratorTest {
+
+    @Test
+    void countCategories_matchesKnownFrequencies() {
+        //Act
+        long[] counts = HandEnumerator.countCategories(ForkJoinPool.commonPool());
+
+        //Assert
+        assertEquals(HandEnumerator.HAND_COUNT, Arrays.stream(counts).sum());
+        for (HandCategory category : HandCategory.values()) {
+            assertEquals(HandEnumerator.expectedCount(category), counts[category.ordinal()], category.toString());
+        }
+    }
+
+    @Test
+    void countMismatches_evaluatorAgreesWithPredicates() {
+        //Act
+        long mismatches = HandEnumerator.countMismatches(ForkJoinPool.commonPool());
+
+        //Assert
+        assertEquals(0, mismatches);
+    }
+}
@@ -0,0 +1,278 @@
+package entities;
+
+import enums.HandCategory;
+import enums.Rank;
+import enums.Suit;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HandEvaluatorTest {
+
+    @Test
+    void handName_royalFlush() {
+        //Arrange
+        Hand hand = HandFactory.MakeHandFromString("QC JC KC AC TC");
+
+        //Act
+        String actual = hand.handName();
+
+        //Assert
+        assertEquals("Royal Flush", actual);
+    }
+
+    @Test
+    void handName_aceLowStraightFlush() {
+        //Arrange
+        Hand hand = HandFactory.MakeHandFromString("2C 5C 3C AC 4C");
+
+        //Act
+        String actual = hand.handName();
+
+        //Assert
+        assertEquals("Straight Flush", actual);
+    }
+
+    @Test
+    void handName_aceLowStraight() {
+        //Arrange
+        Hand hand = HandFactory.MakeHandFromString("AC 2D 3H 4D 5S");
+
+        //Act
+        String actual = hand.handName();
+
+        //Assert
+        assertEquals("Straight", actual);
+    }
+
+    @Test
+    void handName_noWrapAroundStraight() {
+        //Arrange
+        Hand hand = HandFactory.MakeHandFromString("QC KD AH 2D 3S");
+
+        //Act
+        String actual = hand.handName();
+
+        //Assert
+        assertEquals("High Card", actual);
+    }
+
+    @Test
+    void handName_matchesReferenceForRandomHands() {
+        //Arrange
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            Hand hand = new Hand(randomCards(random));
+
+            //Act
+            String actual = hand.handName();
+
+            //Assert
+            assertEquals(hand.referenceHandName(), actual, hand.toString());
+        }
+    }
+
+    @Test
+    void evaluate_categoryConstantsMatchHandCategoryOrdinals() {
+        //Arrange
+        int[] constants = {
+                HandEvaluator.HIGH_CARD, HandEvaluator.ONE_PAIR, HandEvaluator.TWO_PAIR, HandEvaluator.THREE_OF_A_KIND,
+                HandEvaluator.STRAIGHT, HandEvaluator.FLUSH, HandEvaluator.FULL_HOUSE, HandEvaluator.FOUR_OF_A_KIND,
+                HandEvaluator.STRAIGHT_FLUSH, HandEvaluator.ROYAL_FLUSH
+        };
+
+        //Assert
+        assertEquals(HandCategory.COUNT, constants.length);
+        for (HandCategory category : HandCategory.values()) {
+            assertEquals(category.ordinal(), constants[category.ordinal()]);
+        }
+    }
+
+    @Test
+    void evaluate_returnsCategory() {
+        //Arrange
+        Hand hand = HandFactory.MakeHandFromString("9C 3H 9S 9H 3S");
+
+        //Act
+        HandCategory actual = hand.evaluate();
+
+        //Assert
+        assertEquals(HandCategory.FULL_HOUSE, actual);
+        assertEquals("Full House", hand.handName());
+    }
+
+    @Test
+    void strength_matchesCategoryForRandomHands() {
+        //Arrange
+        Random random = new Random(7);
+
+        for (int i = 0; i < 20_000; i++) {
+            long mask = CardCodec.mask(randomCards(random));
+
+            //Act
+            int strength = HandEvaluator.strength(mask);
+
+            //Assert
+            assertEquals(HandEvaluator.category(mask), HandEvaluator.categoryOf(strength));
+        }
+    }
+
+    @Test
+    void strength_aceLowStraightLosesToSixHighStraight() {
+        //Arrange
+        Hand wheel = HandFactory.MakeHandFromString("AC 2D 3H 4D 5S");
+        Hand sixHigh = HandFactory.MakeHandFromString("2C 3D 4C 5S 6C");
+
+        //Act
+        int actual = wheel.compareTo(sixHigh);
+
+        //Assert
+        assertTrue(actual < 0);
+    }
+
+    @Test
+    void strength_aceHighStraightBeatsKingHighStraight() {
+        //Arrange
+        Hand broadway = HandFactory.MakeHandFromString("AS KD QC JS TH");
+        Hand kingHigh = HandFactory.MakeHandFromString("9S KD QC JS TH");
+
+        //Act
+        int actual = broadway.compareTo(kingHigh);
+
+        //Assert
+        assertTrue(actual > 0);
+    }
+
+    @Test
+    void strength_royalFlushBeatsStraightFlush() {
+        //Arrange
+        Hand royal = HandFactory.MakeHandFromString("QC JC KC AC TC");
+        Hand kingHigh = HandFactory.MakeHandFromString("QD JD KD 9D TD");
+
+        //Act
+        int actual = royal.compareTo(kingHigh);
+
+        //Assert
+        assertTrue(actual > 0);
+    }
+
+    @Test
+    void strength_kickersBreakTies() {
+        //Arrange
+        Hand aceKicker = HandFactory.MakeHandFromString("9H 9D AS 4S 3C");
+        Hand kingKicker = HandFactory.MakeHandFromString("9C 9S KS QS JC");
+        Hand fullHouseTrips = HandFactory.MakeHandFromString("3H 3S 3C 2C 2D");
+        Hand fullHousePair = HandFactory.MakeHandFromString("2H 2S 2D AC AD");
+
+        //Act
+        int pairs = aceKicker.compareTo(kingKicker);
+        int fullHouses = fullHouseTrips.compareTo(fullHousePair);
+
+        //Assert
+        assertTrue(pairs > 0);
+        assertTrue(fullHouses > 0);
+    }
+
+    @Test
+    void strength_sameRanksDifferentSuitsTie() {
+        //Arrange
+        Hand first = HandFactory.MakeHandFromString("KH 9D 7S 4S 3C");
+        Hand second = HandFactory.MakeHandFromString("KD 9C 7H 4D 3S");
+
+        //Act
+        int actual = first.compareTo(second);
+
+        //Assert
+        assertEquals(0, actual);
+    }
+
+    @Test
+    void strength_ordersEveryPairOfRandomHandsLikeAShowdown() {
+        //Arrange
+        Random random = new Random(11);
+
+        for (int i = 0; i < 20_000; i++) {
+            Hand first = new Hand(randomCards(random));
+            Hand second = new Hand(randomCards(random));
+
+            //Act
+            int actual = Integer.signum(first.compareTo(second));
+
+            //Assert
+            assertEquals(Integer.signum(showdown(first, second)), actual, first + " vs " + second);
+        }
+    }
+
+    /**
+     * A slow showdown, comparing categories and then the rank values grouped by count, largest group first
+     */
+    private static int showdown(Hand first, Hand second) {
+        int categories = Integer.compare(categoryIndex(first), categoryIndex(second));
+        if (categories != 0) {
+            return categories;
+        }
+        int[] firstValues = groupedValues(first);
+        int[] secondValues = groupedValues(second);
+        for (int i = 0; i < firstValues.length; i++) {
+            if (firstValues[i] != secondValues[i]) {
+                return Integer.compare(firstValues[i], secondValues[i]);
+            }
+        }
+        return 0;
+    }
+
+    private static int categoryIndex(Hand hand) {
+        return Arrays.stream(HandCategory.values())
+                .filter(category -> category.toString().equals(hand.referenceHandName()))
+                .findFirst()
+                .orElseThrow()
+                .ordinal();
+    }
+
+    private static int[] groupedValues(Hand hand) {
+        int[] counts = new int[13];
+        for (Card card : CardCodec.cards(hand.getCardMask())) {
+            counts[HandEvaluator.rankValue(card.rank().ordinal())]++;
+        }
+        boolean wheel = hand.referenceHandName().startsWith("Straight") && counts[12] == 1 && counts[0] == 1;
+        int[] values = new int[5];
+        int i = 0;
+        for (int count = 4; count >= 1; count--) {
+            for (int value = 12; value >= 0; value--) {
+                if (counts[value] == count) {
+                    values[i++] = value;
+                }
+            }
+        }
+        if (wheel) {
+            //the ace plays low, below the two
+            return new int[]{3, 2, 1, 0, -1};
+        }
+        return values;
+    }
+
+    /**
+     * Deals five distinct cards, favouring a single suit so that flushes are well represented
+     */
+    private static Card[] randomCards(Random random) {
+        Card[] cards = new Card[5];
+        long dealt = 0L;
+        boolean suited = random.nextInt(4) == 0;
+        int suit = random.nextInt(4);
+        for (int i = 0; i < cards.length; ) {
+            int rank = random.nextInt(13);
+            int cardSuit = suited ? suit : random.nextInt(4);
+            long bit = 1L << (cardSuit * 13 + rank);
+            if ((dealt & bit) == 0) {
+                dealt |= bit;
+                cards[i++] = new Card(Rank.values()[rank], Suit.values()[cardSuit]);
+            }
+        }
+        return cards;
+    }
+}
@@ -26,6 +26,18 @@ class HandFactoryTest {
         assertEquals(expected.toString(), actual.toString());
     }
 
+    @Test
+    void makeHandFromString_toleratesWhitespace() {
+        //Arrange
+        String hand = "\tQC  JC KC\tAC TC \r";
+
+        //Act
+        Hand actual = HandFactory.MakeHandFromString(hand);
+
+        //Assert
+        assertEquals("QC JC KC AC TC", actual.toString());
+    }
+
     @Test
     void makeHandFromArrayOfCodes_validHand() {
         //Arrange
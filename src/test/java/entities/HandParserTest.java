@@ -0,0 +1,201 @@
+package entities;
+
+import enums.ParseStatus;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HandParserTest {
+
+    private static final int[] ROYAL_FLUSH_IDS = {
+            Card.CreateCardId('Q', 'C'),
+            Card.CreateCardId('J', 'C'),
+            Card.CreateCardId('K', 'C'),
+            Card.CreateCardId('A', 'C'),
+            Card.CreateCardId('T', 'C')
+    };
+
+    @Test
+    void parseLine_bytesWithTabsAndRunsOfSpaces() {
+        //Arrange
+        byte[] line = " \tQC  JC\tKC \t AC TC \r".getBytes(StandardCharsets.US_ASCII);
+        int[] ids = new int[HandParser.HAND_SIZE];
+
+        //Act
+        int count = HandParser.parseLine(line, 0, line.length, ids);
+
+        //Assert
+        assertEquals(HandParser.HAND_SIZE, count);
+        assertArrayEquals(ROYAL_FLUSH_IDS, ids);
+    }
+
+    @Test
+    void parseLine_byteBufferRange() {
+        //Arrange
+        ByteBuffer buffer = ByteBuffer.wrap("2S 4H 7D 6D 3H\nQC JC KC AC TC\n".getBytes(StandardCharsets.US_ASCII));
+        int[] ids = new int[HandParser.HAND_SIZE];
+
+        //Act
+        int count = HandParser.parseLine(buffer, 15, 29, ids);
+
+        //Assert
+        assertEquals(HandParser.HAND_SIZE, count);
+        assertArrayEquals(ROYAL_FLUSH_IDS, ids);
+    }
+
+    @Test
+    void parseLine_reusesBuffer() {
+        //Arrange
+        int[] ids = new int[HandParser.HAND_SIZE];
+        HandParser.parseLine("2S 4H 7D 6D 3H", ids);
+
+        //Act
+        int count = HandParser.parseLine("QC\tJC\tKC\tAC\tTC", ids);
+
+        //Assert
+        assertEquals(HandParser.HAND_SIZE, count);
+        assertArrayEquals(ROYAL_FLUSH_IDS, ids);
+    }
+
+    @Test
+    void parseLine_blankLine() {
+        //Arrange
+        int[] ids = new int[HandParser.HAND_SIZE];
+
+        //Act
+        int count = HandParser.parseLine(" \t\r", ids);
+
+        //Assert
+        assertEquals(0, count);
+    }
+
+    @Test
+    void parseLine_invalidCardCode() {
+        //Arrange
+        int[] ids = new int[HandParser.HAND_SIZE];
+
+        //Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> HandParser.parseLine("QCJ JC KC AC TC", ids));
+
+        //Assert
+        assertEquals("Invalid Card Code", exception.getMessage());
+    }
+
+    @Test
+    void parseLine_invalidCard() {
+        //Arrange
+        int[] ids = new int[HandParser.HAND_SIZE];
+
+        //Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> HandParser.parseLine("QX JC KC AC TC", ids));
+
+        //Assert
+        assertEquals("Invalid Card", exception.getMessage());
+    }
+
+    @Test
+    void parseLine_tooManyCards() {
+        //Arrange
+        int[] ids = new int[HandParser.HAND_SIZE];
+
+        //Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> HandParser.parseLine("QC JC KC AC TC 9C", ids));
+
+        //Assert
+        assertEquals("A hand must contain 5 cards", exception.getMessage());
+    }
+
+    @Test
+    void toMask_duplicateCard() {
+        //Arrange
+        int[] ids = ROYAL_FLUSH_IDS.clone();
+        ids[1] = ids[0];
+
+        //Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> HandParser.toMask(ids, HandParser.HAND_SIZE));
+
+        //Assert
+        assertEquals("Duplicate Card In Hand", exception.getMessage());
+    }
+
+    @Test
+    void parseLine_charsDuplicateCard() {
+        //Arrange
+        int[] ids = new int[HandParser.HAND_SIZE];
+
+        //Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> HandParser.parseLine("QC QC KC AC TC", ids));
+
+        //Assert
+        assertEquals("Duplicate Card In Hand", exception.getMessage());
+    }
+
+    @Test
+    void tryParseLine_validHand() {
+        //Arrange
+        int[] ids = new int[HandParser.HAND_SIZE];
+
+        //Act
+        ParseStatus status = HandParser.tryParseLine("QC JC KC AC TC\r", ids);
+
+        //Assert
+        assertEquals(ParseStatus.VALID, status);
+        assertArrayEquals(ROYAL_FLUSH_IDS, ids);
+    }
+
+    @Test
+    void tryParseLine_reportsEachRejection() {
+        //Arrange
+        String[] lines = {"  ", "QCJC KC AC TC", "QX JC KC AC TC", "QC JC KC AC", "QC JC KC AC TC 2D", "QC QC KC AC TC", "QC JC KC AC T"};
+        ParseStatus[] expected = {
+                ParseStatus.BLANK, ParseStatus.INVALID_CARD_CODE, ParseStatus.INVALID_CARD, ParseStatus.WRONG_CARD_COUNT,
+                ParseStatus.WRONG_CARD_COUNT, ParseStatus.DUPLICATE_CARD, ParseStatus.INVALID_CARD_CODE
+        };
+        int[] ids = new int[HandParser.HAND_SIZE];
+
+        for (int i = 0; i < lines.length; i++) {
+            byte[] bytes = lines[i].getBytes(StandardCharsets.US_ASCII);
+
+            //Act
+            ParseStatus chars = HandParser.tryParseLine(lines[i], ids);
+            ParseStatus range = HandParser.tryParseLine("[" + lines[i] + "]", 1, lines[i].length() + 1, ids);
+            ParseStatus array = HandParser.tryParseLine(bytes, 0, bytes.length, ids);
+            ParseStatus buffer = HandParser.tryParseLine(ByteBuffer.wrap(bytes), 0, bytes.length, ids);
+
+            //Assert
+            assertEquals(expected[i], chars, lines[i]);
+            assertEquals(expected[i], range, lines[i]);
+            assertEquals(expected[i], array, lines[i]);
+            assertEquals(expected[i], buffer, lines[i]);
+        }
+    }
+
+    @Test
+    void tryParseLine_messagesMatchThrowingParser() {
+        //Arrange
+        String[] lines = {"QX JC KC AC TC", "QC JC KC AC", "QC QC KC AC TC"};
+        int[] ids = new int[HandParser.HAND_SIZE];
+
+        for (String line : lines) {
+            byte[] bytes = line.getBytes(StandardCharsets.US_ASCII);
+
+            //Act
+            ParseStatus status = HandParser.tryParseLine(bytes, 0, bytes.length, ids);
+            IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                    () -> HandParser.parseLine(bytes, 0, bytes.length, ids));
+
+            //Assert
+            assertEquals(status.message(), ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package entities;
+
+import enums.HandCategory;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LowballEvaluatorTest {
+
+    @Test
+    void aceToFive_wheelBeatsSixLow() {
+        //Arrange
+        long wheel = TestHands.mask("AH 2H 3H 4H 5H");
+        long sixLow = TestHands.mask("AD 2C 3S 4D 6H");
+
+        //Act
+        int wheelStrength = LowballEvaluator.aceToFive(wheel);
+        int sixLowStrength = LowballEvaluator.aceToFive(sixLow);
+
+        //Assert
+        assertTrue(wheelStrength > sixLowStrength);
+        assertEquals(HandCategory.HIGH_CARD, LowballEvaluator.categoryOf(wheelStrength));
+    }
+
+    @Test
+    void aceToFive_pairOfAcesBeatsPairOfTwos() {
+        //Arrange
+        long aces = TestHands.mask("AH AD 3H 4C 5S");
+        long twos = TestHands.mask("2H 2D 3S 4D 5C");
+
+        //Act, Assert
+        assertTrue(LowballEvaluator.aceToFive(aces) > LowballEvaluator.aceToFive(twos));
+        assertTrue(LowballEvaluator.aceToFive(twos) < LowballEvaluator.aceToFive(TestHands.mask("KH QD JS TD 9C")));
+    }
+
+    @Test
+    void aceToFive_playsBestFiveOfSeven() {
+        //Arrange
+        long razz = TestHands.mask("KH KD 2S 2D 3C 4H 7S");
+
+        //Act
+        int actual = LowballEvaluator.aceToFive(razz);
+
+        //Assert
+        assertEquals(LowballEvaluator.aceToFive(TestHands.mask("KH 2S 3C 4H 7S")), actual);
+    }
+
+    @Test
+    void aceToFive_matchesBestOfSubsetsForRandomDeals() {
+        //Arrange
+        Random random = new Random(11);
+
+        for (int deal = 0; deal < 20_000; deal++) {
+            long cards = TestHands.randomMask(random, 5 + deal % 3);
+
+            //Act
+            int actual = LowballEvaluator.aceToFive(cards);
+
+            //Assert
+            assertEquals(bestAceToFive(cards), actual, () -> Arrays.toString(CardCodec.cards(cards)));
+        }
+    }
+
+    @Test
+    void deuceToSeven_sevenFiveBeatsWheelAndFlush() {
+        //Arrange
+        long sevenFive = TestHands.mask("7H 5D 4S 3C 2H");
+        long wheel = TestHands.mask("AH 2D 3S 4C 5H");
+        long flush = TestHands.mask("7H 5H 4H 3H 2H");
+
+        //Act
+        int sevenFiveStrength = LowballEvaluator.deuceToSeven(sevenFive);
+        int wheelStrength = LowballEvaluator.deuceToSeven(wheel);
+
+        //Assert
+        assertTrue(sevenFiveStrength > wheelStrength);
+        assertTrue(sevenFiveStrength > LowballEvaluator.deuceToSeven(flush));
+        assertTrue(wheelStrength < LowballEvaluator.deuceToSeven(TestHands.mask("KH QD JS TD 8C")));
+        assertEquals(HandCategory.HIGH_CARD, LowballEvaluator.categoryOf(wheelStrength));
+        assertEquals(HandCategory.FLUSH, LowballEvaluator.categoryOf(LowballEvaluator.deuceToSeven(flush)));
+    }
+
+    @Test
+    void deuceToSeven_reversesHighRankingForRandomHands() {
+        //Arrange
+        Random random = new Random(13);
+
+        for (int deal = 0; deal < 20_000; deal++) {
+            long first = TestHands.randomMask(random, 5);
+            long second = TestHands.randomMask(random, 5);
+            if (isWheel(first) || isWheel(second)) {
+                continue;
+            }
+
+            //Act
+            int actual = Integer.signum(Integer.compare(LowballEvaluator.deuceToSeven(first), LowballEvaluator.deuceToSeven(second)));
+
+            //Assert
+            assertEquals(-Integer.signum(Integer.compare(HandEvaluator.strength(first), HandEvaluator.strength(second))), actual);
+        }
+    }
+
+    /**
+     * Takes the best ace to five value over every five card subset, valuing each by its rank counts: fewer matched
+     * cards first, then the highest group of matched cards, then each rank from highest to lowest, with the ace low
+     */
+    private static int bestAceToFive(long cards) {
+        int[] ids = CardCodec.ids(cards);
+        int best = Integer.MIN_VALUE;
+        long worstKey = Long.MAX_VALUE;
+        for (int subset = 0; subset < 1 << ids.length; subset++) {
+            if (Integer.bitCount(subset) != 5) {
+                continue;
+            }
+            long hand = 0L;
+            for (int i = 0; i < ids.length; i++) {
+                if ((subset & (1 << i)) != 0) {
+                    hand |= CardCodec.bit(ids[i]);
+                }
+            }
+            long key = lowKey(hand);
+            if (key < worstKey) {
+                worstKey = key;
+                best = LowballEvaluator.aceToFive(hand);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Builds a key where a smaller key is a better ace to five hand
+     */
+    private static long lowKey(long hand) {
+        int[] counts = new int[CardCodec.RANK_COUNT];
+        for (int id : CardCodec.ids(hand)) {
+            counts[CardCodec.rankOrdinal(id)]++;
+        }
+        Integer[] ranks = new Integer[CardCodec.RANK_COUNT];
+        for (int i = 0; i < ranks.length; i++) {
+            ranks[i] = i;
+        }
+        Arrays.sort(ranks, Comparator.<Integer>comparingInt(rank -> -counts[rank]).thenComparingInt(rank -> -rank));
+        int maxCount = counts[ranks[0]];
+        int groups = (int) Arrays.stream(counts).filter(count -> count > 0).count();
+        //pattern order: no pair, one pair, two pair, trips, full house, quads
+        int pattern = groups == 5 ? 0 : groups == 4 ? 1 : groups == 3 ? (maxCount == 2 ? 2 : 3) : (maxCount == 3 ? 4 : 5);
+        long key = pattern;
+        for (int i = 0; i < groups; i++) {
+            key = key * CardCodec.RANK_COUNT + ranks[i];
+        }
+        for (int i = groups; i < 5; i++) {
+            key *= CardCodec.RANK_COUNT;
+        }
+        return key;
+    }
+
+    private static boolean isWheel(long cards) {
+        int ranks = 0;
+        for (int suit = 0; suit < CardCodec.SUIT_COUNT; suit++) {
+            ranks |= CardCodec.suitRanks(cards, suit);
+        }
+        return ranks == 0b1_1111;
+    }
+}
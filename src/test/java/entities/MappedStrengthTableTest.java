@@ -0,0 +1,179 @@
+package entities;
+
+import enums.HandRanking;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MappedStrengthTableTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void index_firstAndLastHands() {
+        //Arrange
+        long first = 0b11111L;
+        long last = 0b11111L << 47;
+
+        //Act
+        int firstIndex = MappedStrengthTable.index(first);
+        int lastIndex = MappedStrengthTable.index(last);
+
+        //Assert
+        assertEquals(0, firstIndex);
+        assertEquals(2_598_959, lastIndex);
+    }
+
+    @Test
+    void open_generatesTableMatchingEvaluator() throws IOException {
+        //Arrange
+        Path file = directory.resolve("strengths5.bin");
+        Random random = new Random(3);
+
+        //Act
+        MappedStrengthTable table = MappedStrengthTable.open(file, 5);
+
+        //Assert
+        assertTrue(Files.exists(file));
+        assertTrue(table.verify());
+        assertEquals(5, table.getCards());
+        for (int i = 0; i < 20_000; i++) {
+            long mask = TestHands.randomMask(random, 5);
+            assertEquals(HandEvaluator.strength(mask), table.strength(mask));
+        }
+    }
+
+    @Test
+    void open_generatesLowballTablesMatchingEvaluator() throws IOException {
+        //Arrange
+        Path aceToFiveFile = directory.resolve("ace-to-five5.bin");
+        Path deuceToSevenFile = directory.resolve("deuce-to-seven5.bin");
+        Random random = new Random(5);
+
+        //Act
+        MappedStrengthTable aceToFive = MappedStrengthTable.open(aceToFiveFile, 5, HandRanking.ACE_TO_FIVE);
+        MappedStrengthTable deuceToSeven = MappedStrengthTable.open(deuceToSevenFile, 5, HandRanking.DEUCE_TO_SEVEN);
+
+        //Assert
+        assertTrue(aceToFive.verify());
+        assertEquals(HandRanking.DEUCE_TO_SEVEN, deuceToSeven.getRanking());
+        for (int i = 0; i < 20_000; i++) {
+            long mask = TestHands.randomMask(random, 5);
+            assertEquals(LowballEvaluator.aceToFive(mask), aceToFive.strength(mask));
+            assertEquals(LowballEvaluator.deuceToSeven(mask), deuceToSeven.strength(mask));
+        }
+    }
+
+    @Test
+    void map_wrongRanking() throws IOException {
+        //Arrange
+        Path file = directory.resolve("strengths5.bin");
+        MappedStrengthTable.generate(file, 5);
+
+        //Act
+        IOException ex = assertThrows(IOException.class, () -> MappedStrengthTable.map(file, 5, HandRanking.ACE_TO_FIVE));
+
+        //Assert
+        assertEquals("Invalid Table File", ex.getMessage());
+    }
+
+    @Test
+    void generate_deuceToSevenOnlyHoldsFiveCards() {
+        //Arrange
+        Path file = directory.resolve("deuce-to-seven7.bin");
+
+        //Act
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> MappedStrengthTable.generate(file, 7, HandRanking.DEUCE_TO_SEVEN));
+
+        //Assert
+        assertEquals("A table must hold hands of 5 cards", ex.getMessage());
+    }
+
+    @Test
+    void open_reusesExistingFile() throws IOException {
+        //Arrange
+        Path file = directory.resolve("strengths5.bin");
+        MappedStrengthTable.generate(file, 5);
+        long modified = Files.getLastModifiedTime(file).toMillis();
+
+        //Act
+        MappedStrengthTable table = MappedStrengthTable.open(file, 5);
+
+        //Assert
+        assertEquals(modified, Files.getLastModifiedTime(file).toMillis());
+        long royalFlush = HandFactory.MakeHandFromString("QC JC KC AC TC").getCardMask();
+        assertEquals(HandEvaluator.strength(royalFlush), table.strength(royalFlush));
+    }
+
+    @Test
+    void verify_corruptedEntries() throws IOException {
+        //Arrange
+        Path file = directory.resolve("strengths5.bin");
+        MappedStrengthTable.generate(file, 5);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x7F}), MappedStrengthTable.HEADER_SIZE + 1000);
+        }
+
+        //Act
+        MappedStrengthTable table = MappedStrengthTable.map(file, 5);
+
+        //Assert
+        assertFalse(table.verify());
+    }
+
+    @Test
+    void map_outOfDateStrengthVersion() throws IOException {
+        //Arrange
+        Path file = directory.resolve("strengths5.bin");
+        MappedStrengthTable.generate(file, 5);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, MappedStrengthTable.STRENGTH_VERSION + 1), 8);
+        }
+
+        //Act
+        IOException ex = assertThrows(IOException.class, () -> MappedStrengthTable.map(file, 5));
+
+        //Assert
+        assertEquals("Table File Out Of Date", ex.getMessage());
+    }
+
+    @Test
+    void map_wrongNumberOfCards() throws IOException {
+        //Arrange
+        Path file = directory.resolve("strengths5.bin");
+        MappedStrengthTable.generate(file, 5);
+
+        //Act
+        IOException ex = assertThrows(IOException.class, () -> MappedStrengthTable.map(file, 6));
+
+        //Assert
+        assertEquals("Invalid Table File", ex.getMessage());
+    }
+
+    @Test
+    void map_notATableFile() throws IOException {
+        //Arrange
+        Path file = directory.resolve("hands.txt");
+        Files.writeString(file, "QC JC KC AC TC\n3D 4S 5H 6C 7D\n2H 2S 2D AC AD\n");
+
+        //Act
+        IOException ex = assertThrows(IOException.class, () -> MappedStrengthTable.map(file, 5));
+
+        //Assert
+        assertEquals("Invalid Table File", ex.getMessage());
+    }
+}
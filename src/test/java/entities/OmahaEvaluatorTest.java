@@ -0,0 +1,140 @@
+package entities;
+
+import enums.HandCategory;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OmahaEvaluatorTest {
+
+    @Test
+    void evaluate_boardFlushNeedsTwoHoleCardsOfItsSuit() {
+        //Arrange
+        long hole = TestHands.mask("AH KH 2D 2S");
+        long board = TestHands.mask("QC JC TC 9C 8C");
+
+        //Act
+        HandCategory actual = OmahaEvaluator.evaluate(hole, board);
+
+        //Assert
+        assertEquals(HandCategory.STRAIGHT, actual);
+    }
+
+    @Test
+    void evaluate_fourOfAKindInHoleIsOnlyAPair() {
+        //Arrange
+        long hole = TestHands.mask("9H 9D 9S 9C");
+        long board = TestHands.mask("2C 5D 7H KS 3D");
+
+        //Act
+        HandCategory actual = OmahaEvaluator.evaluate(hole, board);
+
+        //Assert
+        assertEquals(HandCategory.ONE_PAIR, actual);
+    }
+
+    @Test
+    void evaluate_royalFlushFromTwoAndThree() {
+        //Arrange
+        long hole = TestHands.mask("AC KC 2D 2S");
+        long board = TestHands.mask("QC JC TC 3H 3D");
+
+        //Act
+        HandCategory actual = OmahaEvaluator.evaluate(hole, board);
+
+        //Assert
+        assertEquals(HandCategory.ROYAL_FLUSH, actual);
+    }
+
+    @Test
+    void strength_fullHouseOnPairedBoardBeatsFlush() {
+        //Arrange
+        long hole = TestHands.mask("AC KC 7D 7S");
+        long board = TestHands.mask("7C 2C 4C 4D 9H");
+
+        //Act
+        int actual = OmahaEvaluator.strength(hole, board);
+
+        //Assert
+        assertEquals(HandFactory.MakeHandFromString("7D 7S 7C 4C 4D").getStrength(), actual);
+    }
+
+    @Test
+    void strength_matchesBestOfSixtyHandsForRandomDeals() {
+        //Arrange
+        Random random = new Random(5);
+
+        for (int deal = 0; deal < 5_000; deal++) {
+            int boardCards = OmahaEvaluator.MIN_BOARD_CARDS + deal % 3;
+            int suits = random.nextInt(3) == 0 ? 2 : 4;
+            long hole = TestHands.randomMask(random, OmahaEvaluator.HOLE_CARDS, suits, 0L);
+            long board = TestHands.randomMask(random, boardCards, suits, hole);
+
+            //Act
+            int actual = OmahaEvaluator.strength(hole, board);
+
+            //Assert
+            assertEquals(bestOfCombinations(hole, board), actual,
+                    () -> Arrays.toString(CardCodec.cards(hole)) + " | " + Arrays.toString(CardCodec.cards(board)));
+        }
+    }
+
+    @Test
+    void strength_invalidNumberOfHoleCards() {
+        //Arrange
+        Card[] hole = CardCodec.cards(TestHands.mask("AC KC 2D"));
+        Card[] board = CardCodec.cards(TestHands.mask("QC JC TC"));
+
+        //Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> OmahaEvaluator.strength(hole, board));
+
+        //Assert
+        assertEquals("An Omaha hand must contain 4 hole cards", exception.getMessage());
+    }
+
+    @Test
+    void strength_cardOnBoardAndInHole() {
+        //Arrange
+        Card[] hole = CardCodec.cards(TestHands.mask("AC KC 2D 2S"));
+        Card[] board = CardCodec.cards(TestHands.mask("AC JC TC"));
+
+        //Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> OmahaEvaluator.strength(hole, board));
+
+        //Assert
+        assertEquals("Duplicate Card In Hand", exception.getMessage());
+    }
+
+    /**
+     * Builds every Hand of two hole cards and three board cards and takes the strongest
+     */
+    private static int bestOfCombinations(long hole, long board) {
+        int[] holeIds = CardCodec.ids(hole);
+        int[] boardIds = CardCodec.ids(board);
+        Hand best = null;
+        for (int a = 0; a < holeIds.length; a++) {
+            for (int b = a + 1; b < holeIds.length; b++) {
+                for (int c = 0; c < boardIds.length; c++) {
+                    for (int d = c + 1; d < boardIds.length; d++) {
+                        for (int e = d + 1; e < boardIds.length; e++) {
+                            Hand hand = HandFactory.MakeHandFromMask(CardCodec.mask(holeIds[a], holeIds[b],
+                                    boardIds[c], boardIds[d], boardIds[e]));
+                            if (best == null || hand.compareTo(best) > 0) {
+                                best = hand;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return best.getStrength();
+    }
+
+    /**
+     * Deals distinct cards not already dealt, sometimes from only two suits so that flushes are well represented
+     */
+}
@@ -0,0 +1,111 @@
+package entities;
+
+import enums.HandCategory;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SevenCardEvaluatorTest {
+
+    @Test
+    void evaluate_royalFlushAmongSeven() {
+        //Arrange
+        long cards = TestHands.mask("QC JC KC AC TC 9C 2D");
+
+        //Act
+        HandCategory actual = SevenCardEvaluator.evaluate(cards);
+
+        //Assert
+        assertEquals(HandCategory.ROYAL_FLUSH, actual);
+    }
+
+    @Test
+    void evaluate_twoTripsMakeAFullHouse() {
+        //Arrange
+        long cards = TestHands.mask("9H 9D 9S 3S 3C 3H KD");
+
+        //Act
+        int actual = SevenCardEvaluator.strength(cards);
+
+        //Assert
+        assertEquals(HandFactory.MakeHandFromString("9H 9D 9S 3S 3C").getStrength(), actual);
+    }
+
+    @Test
+    void evaluate_threePairsKeepsBestKicker() {
+        //Arrange
+        long cards = TestHands.mask("9H 9D 5S 5C 3H 3D 4C");
+
+        //Act
+        int actual = SevenCardEvaluator.strength(cards);
+
+        //Assert
+        assertEquals(HandFactory.MakeHandFromString("9H 9D 5S 5C 4C").getStrength(), actual);
+    }
+
+    @Test
+    void evaluate_straightFlushBeatsHigherStraight() {
+        //Arrange
+        long cards = TestHands.mask("AD 2D 3D 4D 5D 6S 7H");
+
+        //Act
+        HandCategory actual = SevenCardEvaluator.evaluate(cards);
+
+        //Assert
+        assertEquals(HandCategory.STRAIGHT_FLUSH, actual);
+    }
+
+    @Test
+    void strength_matchesBestOfTwentyOneHandsForRandomDeals() {
+        //Arrange
+        Random random = new Random(3);
+
+        for (int deal = 0; deal < 5_000; deal++) {
+            long cards = TestHands.randomMask(random, SevenCardEvaluator.HAND_SIZE, random.nextInt(3) == 0 ? 2 : 4, 0L);
+
+            //Act
+            int actual = SevenCardEvaluator.strength(cards);
+
+            //Assert
+            assertEquals(bestOfSubsets(cards), actual, () -> Arrays.toString(CardCodec.cards(cards)));
+        }
+    }
+
+    @Test
+    void strength_invalidNumberOfCards() {
+        //Arrange
+        Card[] cards = CardCodec.cards(TestHands.mask("QC JC KC AC TC"));
+
+        //Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> SevenCardEvaluator.strength(cards));
+
+        //Assert
+        assertEquals("A hand must contain 7 cards", exception.getMessage());
+    }
+
+    /**
+     * Builds every five card Hand within the seven cards and takes the strongest
+     */
+    private static int bestOfSubsets(long cards) {
+        int[] ids = CardCodec.ids(cards);
+        Hand best = null;
+        for (int skipFirst = 0; skipFirst < ids.length; skipFirst++) {
+            for (int skipSecond = skipFirst + 1; skipSecond < ids.length; skipSecond++) {
+                long subset = cards & ~CardCodec.bit(ids[skipFirst]) & ~CardCodec.bit(ids[skipSecond]);
+                Hand hand = HandFactory.MakeHandFromMask(subset);
+                if (best == null || hand.compareTo(best) > 0) {
+                    best = hand;
+                }
+            }
+        }
+        return best.getStrength();
+    }
+
+    /**
+     * Deals seven distinct cards, sometimes from only two suits so that flushes are well represented
+     */
+}
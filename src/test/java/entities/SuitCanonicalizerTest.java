@@ -0,0 +1,142 @@
+package entities;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SuitCanonicalizerTest {
+
+    @Test
+    void canonicalize_sameFormForEverySuitRelabelling() {
+        //Arrange
+        long flush = HandFactory.MakeHandFromString("2C 5C 9C JC KC").getCardMask();
+        long otherFlush = HandFactory.MakeHandFromString("2H 5H 9H JH KH").getCardMask();
+        long pair = HandFactory.MakeHandFromString("9C 9S KD 4H 2S").getCardMask();
+        long otherPair = HandFactory.MakeHandFromString("9H 9D KS 4C 2D").getCardMask();
+
+        //Act
+        long canonicalFlush = SuitCanonicalizer.canonicalize(flush);
+        long canonicalPair = SuitCanonicalizer.canonicalize(pair);
+
+        //Assert
+        assertEquals(canonicalFlush, SuitCanonicalizer.canonicalize(otherFlush));
+        assertEquals(canonicalPair, SuitCanonicalizer.canonicalize(otherPair));
+        assertEquals(HandFactory.MakeHandFromString("2H 5H 9H JH KH").getCardMask(), canonicalFlush);
+    }
+
+    @Test
+    void canonicalize_keepsStrength() {
+        //Arrange
+        Random random = new Random(5);
+
+        for (int i = 0; i < 20_000; i++) {
+            long mask = TestHands.randomMask(random, 7);
+
+            //Act
+            long canonical = SuitCanonicalizer.canonicalize(mask);
+
+            //Assert
+            assertEquals(7, Long.bitCount(canonical));
+            assertTrue(SuitCanonicalizer.isCanonical(canonical));
+            assertEquals(SevenCardEvaluator.strength(mask), SevenCardEvaluator.strength(canonical));
+        }
+    }
+
+    @Test
+    void canonicalize_invariantUnderEveryPermutation() {
+        //Arrange
+        Random random = new Random(9);
+
+        for (int i = 0; i < 2_000; i++) {
+            long mask = TestHands.randomMask(random, 1 + random.nextInt(7));
+            long expected = SuitCanonicalizer.canonicalize(mask);
+
+            for (int permutation : allPermutations()) {
+                //Act
+                long actual = SuitCanonicalizer.canonicalize(SuitCanonicalizer.permute(mask, permutation));
+
+                //Assert
+                assertEquals(expected, actual);
+            }
+        }
+    }
+
+    @Test
+    void inverse_restoresOriginalMask() {
+        //Arrange
+        Random random = new Random(13);
+
+        for (int i = 0; i < 2_000; i++) {
+            long mask = TestHands.randomMask(random, 5);
+            int permutation = SuitCanonicalizer.permutation(mask);
+
+            //Act
+            long restored = SuitCanonicalizer.permute(SuitCanonicalizer.canonicalize(mask), SuitCanonicalizer.inverse(permutation));
+
+            //Assert
+            assertEquals(mask, restored);
+        }
+    }
+
+    @Test
+    void canonicalize_fiveCardHandsShrinkToIsomorphismClasses() {
+        //Arrange
+        Set<Long> classes = new HashSet<>();
+        long mask = 0b11111L;
+
+        //Act
+        while (mask < (1L << CardCodec.CARD_COUNT)) {
+            classes.add(SuitCanonicalizer.canonicalize(mask));
+            long lowest = mask & -mask;
+            long ripple = mask + lowest;
+            mask = (((ripple ^ mask) >>> 2) / lowest) | ripple;
+        }
+
+        //Assert
+        //the 2,598,960 five card hands fall into 134,459 classes under suit relabelling
+        assertEquals(134_459, classes.size());
+    }
+
+    @Test
+    void permutation_jointKeepsSetsApart() {
+        //Arrange
+        long board = CardCodec.mask(HandFactory.MakeCardsFromString("2C 7D 9H"));
+        long first = CardCodec.mask(HandFactory.MakeCardsFromString("AS KS"));
+        long second = CardCodec.mask(HandFactory.MakeCardsFromString("QH QD"));
+        long otherFirst = CardCodec.mask(HandFactory.MakeCardsFromString("AS KS"));
+        long otherSecond = CardCodec.mask(HandFactory.MakeCardsFromString("QD QH"));
+        long otherBoard = CardCodec.mask(HandFactory.MakeCardsFromString("2C 7H 9D"));
+
+        //Act
+        int permutation = SuitCanonicalizer.permutation(board, first, second);
+        int otherPermutation = SuitCanonicalizer.permutation(otherBoard, otherFirst, otherSecond);
+
+        //Assert
+        assertEquals(SuitCanonicalizer.permute(board, permutation), SuitCanonicalizer.permute(otherBoard, otherPermutation));
+        assertEquals(SuitCanonicalizer.permute(first, permutation), SuitCanonicalizer.permute(otherFirst, otherPermutation));
+        assertEquals(SuitCanonicalizer.permute(second, permutation), SuitCanonicalizer.permute(otherSecond, otherPermutation));
+        assertFalse(SuitCanonicalizer.permute(first, permutation) == SuitCanonicalizer.permute(second, permutation));
+    }
+
+    private static int[] allPermutations() {
+        int[] permutations = new int[24];
+        int count = 0;
+        for (int a = 0; a < 4; a++) {
+            for (int b = 0; b < 4; b++) {
+                for (int c = 0; c < 4; c++) {
+                    int d = 6 - a - b - c;
+                    if (a != b && a != c && b != c && d >= 0 && d < 4 && d != a && d != b && d != c) {
+                        permutations[count++] = a | b << 2 | c << 4 | d << 6;
+                    }
+                }
+            }
+        }
+        return permutations;
+    }
+}
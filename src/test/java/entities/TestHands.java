@@ -0,0 +1,72 @@
+package entities;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * This class represents the hands shared by the tests, and contains functionality to build card masks from coded
+ * cards and to deal random card masks
+ *
+ * @author aine mccaughey
+ * @version 1.0
+ */
+public final class TestHands {
+    //one hand of each category, from a royal flush down to high card
+    public static final List<String> HANDS = List.of(
+            "QC JC KC AC TC",
+            "2C 5C 3C AC 4C",
+            "9H 9D 3S 9S 9C",
+            "9C 3H 9S 9H 3S",
+            "3C 5C 4C 9C 7C",
+            "AC 2D 3H 4D 5S",
+            "3H 3S 3C 7C 5D",
+            "9H 9D 3S KS 3C",
+            "3H JS 3C 7C 5D",
+            "2S 4H 7D 6D 3H"
+    );
+
+    private TestHands() {
+    }
+
+    /**
+     * Builds the card mask of any number of coded cards
+     *
+     * @param codes String of char pairs separated by spaces ("3D 4S...")
+     * @return long mask as encoded by the CardCodec
+     */
+    public static long mask(String codes) {
+        return CardCodec.mask(HandFactory.MakeCardsFromString(codes));
+    }
+
+    /**
+     * Deals a random mask of distinct cards from the whole deck
+     *
+     * @param random Random to draw from
+     * @param cards int number of cards
+     * @return long mask
+     */
+    public static long randomMask(Random random, int cards) {
+        return randomMask(random, cards, CardCodec.SUIT_COUNT, 0L);
+    }
+
+    /**
+     * Deals a random mask of distinct cards from the first few suits, avoiding cards already dealt
+     * Fewer suits make flushes common enough to test
+     *
+     * @param random Random to draw from
+     * @param cards int number of cards
+     * @param suits int number of suits to draw from, from the first
+     * @param dealt long cards already dealt, which are not drawn
+     * @return long mask
+     */
+    public static long randomMask(Random random, int cards, int suits, long dealt) {
+        long mask = 0L;
+        while (Long.bitCount(mask) < cards) {
+            long card = CardCodec.bit(random.nextInt(suits * CardCodec.RANK_COUNT));
+            if ((card & dealt) == 0) {
+                mask |= card;
+            }
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,222 @@
+package io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchFileEvaluatorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void findFiles_directorySkipsOutputFiles() throws IOException {
+        //Arrange
+        Files.writeString(tempDir.resolve("b.txt"), "QC JC KC AC TC\n");
+        Files.writeString(tempDir.resolve("a.txt"), "QC JC KC AC TC\n");
+        Files.writeString(tempDir.resolve("a.txt.out"), "QC JC KC AC TC => Royal Flush\n");
+
+        //Act
+        List<Path> files = BatchFileEvaluator.findFiles(tempDir.toString());
+
+        //Assert
+        assertEquals(List.of(tempDir.resolve("a.txt"), tempDir.resolve("b.txt")), files);
+    }
+
+    @Test
+    void findFiles_glob() throws IOException {
+        //Arrange
+        Files.createDirectories(tempDir.resolve("day1"));
+        Files.writeString(tempDir.resolve("day1/hands.txt"), "QC JC KC AC TC\n");
+        Files.writeString(tempDir.resolve("hands.txt"), "QC JC KC AC TC\n");
+        Files.writeString(tempDir.resolve("notes.md"), "notes\n");
+
+        //Act
+        List<Path> topLevel = BatchFileEvaluator.findFiles(tempDir + "/*.txt");
+        List<Path> recursive = BatchFileEvaluator.findFiles(tempDir + "/**.txt");
+
+        //Assert
+        assertEquals(List.of(tempDir.resolve("hands.txt")), topLevel);
+        assertEquals(List.of(tempDir.resolve("day1/hands.txt"), tempDir.resolve("hands.txt")), recursive);
+    }
+
+    @Test
+    void evaluate_writesOutputPerFileAndSummarises() throws IOException {
+        //Arrange
+        Path first = tempDir.resolve("first.txt");
+        Path second = tempDir.resolve("second.txt");
+        Path broken = tempDir.resolve("broken.txt");
+        Files.writeString(first, "QC JC KC AC TC\n2S 4H 7D 6D 3H\n");
+        Files.writeString(second, "9C 3H 9S 9H 3S\n");
+        Files.writeString(broken, "QC JC KC AC\n");
+        Path out = Files.createDirectory(tempDir.resolve("out"));
+        ForkJoinPool pool = new ForkJoinPool(2);
+        ExecutorService io = IoExecutors.newIoExecutor();
+
+        //Act
+        BatchSummary summary = BatchFileEvaluator.evaluate(List.of(first, second, broken), out, pool, io);
+        io.shutdown();
+        pool.shutdown();
+
+        //Assert
+        assertEquals(3, summary.hands());
+        assertEquals(1, summary.failed());
+        assertFalse(summary.results().get(0).failed());
+        assertEquals("Line 1: A hand must contain 5 cards", summary.results().get(2).error());
+        assertFalse(Files.exists(out.resolve("broken.txt.out")));
+        assertEquals("QC JC KC AC TC => Royal Flush" + System.lineSeparator() + "2S 4H 7D 6D 3H => High Card" + System.lineSeparator(),
+                Files.readString(out.resolve("first.txt.out")));
+        assertEquals("9C 3H 9S 9H 3S => Full House" + System.lineSeparator(), Files.readString(out.resolve("second.txt.out")));
+    }
+
+    @Test
+    void evaluate_missingFileFailsAlone() throws IOException {
+        //Arrange
+        Path present = tempDir.resolve("present.txt");
+        Files.writeString(present, "QC JC KC AC TC\n");
+        ForkJoinPool pool = new ForkJoinPool(1);
+        ExecutorService io = IoExecutors.newIoExecutor();
+
+        //Act
+        BatchSummary summary = BatchFileEvaluator.evaluate(List.of(tempDir.resolve("missing.txt"), present), null, pool, io);
+        io.shutdown();
+        pool.shutdown();
+
+        //Assert
+        assertEquals("NoSuchFileException: " + tempDir.resolve("missing.txt") + " (no such file)",
+                summary.results().get(0).error());
+        assertFalse(Files.exists(tempDir.resolve("missing.txt.out")));
+        assertEquals(1, summary.results().get(1).hands());
+        assertTrue(Files.exists(tempDir.resolve("present.txt.out")));
+    }
+
+    @Test
+    void evaluate_sameNameInOtherDirectoryFails() throws IOException {
+        //Arrange
+        Path first = Files.createDirectory(tempDir.resolve("day1")).resolve("hands.txt");
+        Path second = Files.createDirectory(tempDir.resolve("day2")).resolve("hands.txt");
+        Files.writeString(first, "QC JC KC AC TC\n");
+        Files.writeString(second, "2S 4H 7D 6D 3H\n");
+        Path out = Files.createDirectory(tempDir.resolve("out"));
+        ForkJoinPool pool = new ForkJoinPool(1);
+        ExecutorService io = IoExecutors.newIoExecutor();
+
+        //Act
+        BatchSummary summary = BatchFileEvaluator.evaluate(List.of(first, second), out, pool, io);
+        io.shutdown();
+        pool.shutdown();
+
+        //Assert
+        assertEquals(1, summary.hands());
+        assertEquals(1, summary.failed());
+        assertEquals("Output " + out.resolve("hands.txt.out") + " is already written for " + first,
+                summary.results().get(1).error());
+        assertEquals("QC JC KC AC TC => Royal Flush" + System.lineSeparator(),
+                Files.readString(out.resolve("hands.txt.out")));
+    }
+
+    @Test
+    void evaluate_largeFileFailureLeavesNoOutput() throws IOException {
+        //Arrange
+        Path large = tempDir.resolve("large.txt");
+        List<String> lines = new ArrayList<>(Collections.nCopies(MappedHandFileEvaluator.DEFAULT_CHUNK_SIZE / 10, "QC JC KC AC TC"));
+        lines.add("QC JC KC AC");
+        Files.write(large, lines);
+        ForkJoinPool pool = new ForkJoinPool(2);
+        ExecutorService io = IoExecutors.newIoExecutor();
+
+        //Act
+        BatchSummary summary = BatchFileEvaluator.evaluate(List.of(large), null, pool, io);
+        io.shutdown();
+        pool.shutdown();
+
+        //Assert
+        assertEquals("Line " + lines.size() + ": A hand must contain 5 cards", summary.results().get(0).error());
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(List.of(large), files.toList());
+        }
+    }
+
+    @Test
+    void evaluate_boundsFilesInFlight() throws Exception {
+        //Arrange
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            Path file = tempDir.resolve("hands" + i + ".txt");
+            Files.writeString(file, "QC JC KC AC TC\n");
+            files.add(file);
+        }
+        //holds each task until the test runs it, so the number submitted at once can be seen
+        BlockingQueue<Runnable> submitted = new LinkedBlockingQueue<>();
+        ExecutorService io = new AbstractExecutorService() {
+            @Override
+            public void execute(Runnable command) {
+                submitted.add(command);
+            }
+
+            @Override
+            public void shutdown() {
+            }
+
+            @Override
+            public List<Runnable> shutdownNow() {
+                return List.of();
+            }
+
+            @Override
+            public boolean isShutdown() {
+                return false;
+            }
+
+            @Override
+            public boolean isTerminated() {
+                return false;
+            }
+
+            @Override
+            public boolean awaitTermination(long timeout, TimeUnit unit) {
+                return true;
+            }
+        };
+        ForkJoinPool pool = new ForkJoinPool(1);
+        CompletableFuture<BatchSummary> batch = CompletableFuture.supplyAsync(
+                () -> BatchFileEvaluator.evaluate(files, null, pool, io, 2));
+
+        //Act
+        while (submitted.size() < 2) {
+            Thread.sleep(1);
+        }
+        //give the batch time to submit more, which it must not do until a file finishes
+        Thread.sleep(100);
+        int waiting = submitted.size();
+        while (!batch.isDone()) {
+            Runnable task = submitted.poll(10, TimeUnit.MILLISECONDS);
+            if (task != null) {
+                task.run();
+            }
+        }
+        pool.shutdown();
+
+        //Assert
+        assertEquals(2, waiting);
+        assertEquals(6, batch.join().hands());
+    }
+}
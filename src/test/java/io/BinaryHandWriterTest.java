@@ -0,0 +1,129 @@
+package io;
+
+import entities.HandParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static entities.TestHands.HANDS;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryHandWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void convert_roundTripsThroughBothReaders() throws IOException {
+        //Arrange
+        Path text = tempDir.resolve("hands.txt");
+        Path binary = tempDir.resolve("hands.bin");
+        List<String> lines = new ArrayList<>(HANDS);
+        lines.add(2, "");
+        Files.write(text, lines);
+
+        //Act
+        long count = BinaryHandWriter.convert(text, binary, null);
+
+        //Assert
+        assertEquals(HANDS.size(), count);
+        assertTrue(BinaryHandFormat.isBinary(binary));
+        assertFalse(BinaryHandFormat.isBinary(text));
+        assertEquals(BinaryHandFormat.HEADER_SIZE + HANDS.size() * BinaryHandFormat.RECORD_SIZE, Files.size(binary));
+        MappedBinaryHandFile mapped = MappedBinaryHandFile.open(binary);
+        assertEquals(HANDS.size(), mapped.records());
+        int[] expected = new int[HandParser.HAND_SIZE];
+        int[] read = new int[HandParser.HAND_SIZE];
+        int[] mappedIds = new int[HandParser.HAND_SIZE];
+        try (BinaryHandReader reader = new BinaryHandReader(binary)) {
+            assertEquals(HANDS.size(), reader.records());
+            for (int i = 0; i < HANDS.size(); i++) {
+                HandParser.parseLine(HANDS.get(i), expected);
+                assertTrue(reader.next(read));
+                mapped.ids(i, mappedIds);
+                assertArrayEquals(expected, read);
+                assertArrayEquals(expected, mappedIds);
+                assertEquals(HandParser.toMask(expected, HandParser.HAND_SIZE), mapped.mask(i));
+            }
+            assertFalse(reader.next(read));
+        }
+    }
+
+    @Test
+    void convert_writesBadLinesToRejects() throws IOException {
+        //Arrange
+        Path text = tempDir.resolve("hands.txt");
+        Path binary = tempDir.resolve("hands.bin");
+        Files.writeString(text, "QC JC KC AC TC\nQX JC KC AC TC\n2S 4H 7D 6D 3H");
+        ByteArrayOutputStream rejected = new ByteArrayOutputStream();
+
+        //Act
+        long count;
+        try (RejectWriter rejects = new RejectWriter(rejected)) {
+            count = BinaryHandWriter.convert(text, binary, rejects);
+        }
+
+        //Assert
+        assertEquals(2, count);
+        assertEquals(2, BinaryHandFormat.recordCount(binary));
+        assertEquals("2\tInvalid Card\tQX JC KC AC TC" + System.lineSeparator(), rejected.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void convert_badLineLeavesNoFile() throws IOException {
+        //Arrange
+        Path text = tempDir.resolve("hands.txt");
+        Path binary = tempDir.resolve("hands.bin");
+        Files.writeString(text, "QC JC KC AC TC\n\nQC JC KC AC\n");
+
+        //Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> BinaryHandWriter.convert(text, binary, null));
+
+        //Assert
+        assertEquals("Line 3: A hand must contain 5 cards", exception.getMessage());
+        assertFalse(Files.exists(binary));
+    }
+
+    @Test
+    void open_truncatedFile() throws IOException {
+        //Arrange
+        Path text = tempDir.resolve("hands.txt");
+        Path binary = tempDir.resolve("hands.bin");
+        Files.write(text, HANDS);
+        BinaryHandWriter.convert(text, binary, null);
+        byte[] bytes = Files.readAllBytes(binary);
+        Files.write(binary, Arrays.copyOf(bytes, bytes.length - 1));
+
+        //Act
+        IOException exception = assertThrows(IOException.class, () -> MappedBinaryHandFile.open(binary));
+
+        //Assert
+        assertEquals("Invalid Binary Hand File", exception.getMessage());
+    }
+
+    @Test
+    void open_textFile() throws IOException {
+        //Arrange
+        Path text = tempDir.resolve("hands.txt");
+        Files.write(text, HANDS);
+
+        //Act
+        IOException exception = assertThrows(IOException.class, () -> new BinaryHandReader(text));
+
+        //Assert
+        assertEquals("Invalid Binary Hand File", exception.getMessage());
+    }
+}
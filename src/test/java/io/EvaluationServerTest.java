@@ -0,0 +1,97 @@
+package io;
+
+import entities.HandEvaluator;
+import entities.HandFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EvaluationServerTest {
+
+    private EvaluationServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = EvaluationServer.start(0, 64, TimeUnit.MILLISECONDS.toNanos(2));
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.close();
+    }
+
+    @Test
+    void evaluate_answersEachLine() throws Exception {
+        //Arrange
+        String body = "QC JC KC AC TC\r\n\n 9C 3H 9S 9H 3S \n";
+
+        //Act
+        HttpResponse<String> response = client.send(post(body), HttpResponse.BodyHandlers.ofString());
+
+        //Assert
+        long fullHouse = HandFactory.MakeHandFromString("9C 3H 9S 9H 3S").getCardMask();
+        long royalFlush = HandFactory.MakeHandFromString("QC JC KC AC TC").getCardMask();
+        assertEquals(200, response.statusCode());
+        assertEquals("QC JC KC AC TC\tRoyal Flush\t" + HandEvaluator.strength(royalFlush) + "\n"
+                + "9C 3H 9S 9H 3S\tFull House\t" + HandEvaluator.strength(fullHouse) + "\n", response.body());
+    }
+
+    @Test
+    void evaluate_badLineIsRejected() throws Exception {
+        //Act
+        HttpResponse<String> response = client.send(post("QC JC KC AC TC\nQC QC KC AC TC\n"), HttpResponse.BodyHandlers.ofString());
+
+        //Assert
+        assertEquals(400, response.statusCode());
+        assertEquals("Line 2: Duplicate Card In Hand\n", response.body());
+    }
+
+    @Test
+    void evaluate_getIsNotAllowed() throws Exception {
+        //Act
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri("/evaluate")).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        //Assert
+        assertEquals(405, response.statusCode());
+    }
+
+    @Test
+    void evaluate_concurrentRequestsAllAnswered() {
+        //Arrange
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+
+        //Act
+        for (int i = 0; i < 50; i++) {
+            responses.add(client.sendAsync(post("2S 4H 7D 6D 3H\n"), HttpResponse.BodyHandlers.ofString()));
+        }
+
+        //Assert
+        for (CompletableFuture<HttpResponse<String>> response : responses) {
+            assertEquals("2S 4H 7D 6D 3H\tHigh Card\t", response.join().body().substring(0, 25));
+        }
+        assertEquals(50, server.batcher().hands());
+    }
+
+    private HttpRequest post(String body) {
+        return HttpRequest.newBuilder(uri("/evaluate")).POST(HttpRequest.BodyPublishers.ofString(body)).build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://127.0.0.1:" + server.port() + path);
+    }
+}
@@ -0,0 +1,173 @@
+package io;
+
+import entities.HandEvaluator;
+import entities.HandParser;
+import enums.HandCategory;
+import enums.OutputFormat;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static entities.TestHands.HANDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HandSinkTest {
+
+    private static final String NEWLINE = System.lineSeparator();
+
+    @Test
+    void text_matchesLineByLineFormat() throws IOException {
+        //Arrange
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        HandSink sink = HandSink.open(OutputFormat.TEXT, output);
+
+        //Act
+        writeHands(sink);
+        sink.finish();
+
+        //Assert
+        assertEquals("QC JC KC AC TC => Royal Flush" + NEWLINE
+                        + "2C 5C 3C AC 4C => Straight Flush" + NEWLINE
+                        + "9H 9D 3S 9S 9C => Four of a Kind" + NEWLINE
+                        + "9C 3H 9S 9H 3S => Full House" + NEWLINE
+                        + "3C 5C 4C 9C 7C => Flush" + NEWLINE
+                        + "AC 2D 3H 4D 5S => Straight" + NEWLINE
+                        + "3H 3S 3C 7C 5D => Three of a Kind" + NEWLINE
+                        + "9H 9D 3S KS 3C => Two Pair" + NEWLINE
+                        + "3H JS 3C 7C 5D => One Pair" + NEWLINE
+                        + "2S 4H 7D 6D 3H => High Card" + NEWLINE,
+                output.toString(StandardCharsets.US_ASCII));
+        assertEquals(HANDS.size(), sink.count());
+    }
+
+    @Test
+    void csv_writesHeaderAndScores() throws IOException {
+        //Arrange
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        HandSink sink = HandSink.open(OutputFormat.CSV, output);
+
+        //Act
+        writeHands(sink);
+        sink.finish();
+
+        //Assert
+        String[] lines = output.toString(StandardCharsets.US_ASCII).split(NEWLINE);
+        assertEquals(HANDS.size() + 1, lines.length);
+        assertEquals("hand,category,score", lines[0]);
+        assertEquals("QC JC KC AC TC,Royal Flush," + strength(HANDS.get(0)), lines[1]);
+        assertEquals("3H JS 3C 7C 5D,One Pair," + strength(HANDS.get(8)), lines[9]);
+    }
+
+    @Test
+    void csv_emptyRunWritesHeader() throws IOException {
+        //Arrange
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        HandSink sink = HandSink.open(OutputFormat.CSV, output);
+
+        //Act
+        sink.finish();
+
+        //Assert
+        assertEquals("hand,category,score" + NEWLINE, output.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void binary_writesCategoryAndScoreArrays() throws IOException {
+        //Arrange
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        HandSink sink = HandSink.open(OutputFormat.BINARY, output);
+
+        //Act
+        writeHands(sink);
+        sink.finish();
+
+        //Assert
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(output.toByteArray()));
+        assertEquals(BinaryResultSink.MAGIC, input.readInt());
+        assertEquals(BinaryResultSink.VERSION, input.readInt());
+        assertEquals(HANDS.size(), input.readInt());
+        for (String hand : HANDS) {
+            assertEquals(HandEvaluator.categoryOf(strength(hand)), input.readByte());
+        }
+        for (String hand : HANDS) {
+            assertEquals(strength(hand), input.readInt());
+        }
+        assertEquals(0, input.readInt());
+        assertEquals(-1, input.read());
+    }
+
+    @Test
+    void binary_splitsIntoBlocks() throws IOException {
+        //Arrange
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        HandSink sink = HandSink.open(OutputFormat.BINARY, output);
+        int[] ids = new int[HandParser.HAND_SIZE];
+        HandParser.parseLine(HANDS.get(0), ids);
+        int hands = BinaryResultSink.BLOCK_SIZE + 3;
+
+        //Act
+        for (int i = 0; i < hands; i++) {
+            sink.write(ids, strength(HANDS.get(0)));
+        }
+        sink.finish();
+
+        //Assert
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(output.toByteArray()));
+        input.skipNBytes(Integer.BYTES * 2);
+        assertEquals(BinaryResultSink.BLOCK_SIZE, input.readInt());
+        input.skipNBytes(BinaryResultSink.BLOCK_SIZE * (1L + Integer.BYTES));
+        assertEquals(3, input.readInt());
+        input.skipNBytes(3 * (1L + Integer.BYTES));
+        assertEquals(0, input.readInt());
+        assertEquals(-1, input.read());
+    }
+
+    @Test
+    void summary_countsEachCategory() throws IOException {
+        //Arrange
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        HandSink sink = HandSink.open(OutputFormat.SUMMARY, output);
+
+        //Act
+        writeHands(sink);
+        writeHands(sink);
+        sink.finish();
+
+        //Assert
+        String[] lines = output.toString(StandardCharsets.US_ASCII).split(NEWLINE);
+        assertEquals(HandCategory.COUNT + 1, lines.length);
+        for (HandCategory category : HandCategory.values()) {
+            assertEquals(category + "\t2", lines[category.ordinal()]);
+        }
+        assertEquals("Total\t" + 2 * HANDS.size(), lines[HandCategory.COUNT]);
+    }
+
+    @Test
+    void fromName_ignoresCase() {
+        //Act
+        OutputFormat format = OutputFormat.fromName("csv");
+
+        //Assert
+        assertEquals(OutputFormat.CSV, format);
+        assertThrows(IllegalArgumentException.class, () -> OutputFormat.fromName("xml"));
+    }
+
+    private static void writeHands(HandSink sink) throws IOException {
+        int[] ids = new int[HandParser.HAND_SIZE];
+        for (String hand : HANDS) {
+            HandParser.parseLine(hand, ids);
+            sink.write(ids, strength(hand));
+        }
+    }
+
+    private static int strength(String hand) {
+        int[] ids = new int[HandParser.HAND_SIZE];
+        HandParser.parseLine(hand, ids);
+        return HandEvaluator.strength(HandParser.toMask(ids, HandParser.HAND_SIZE));
+    }
+}
@@ -0,0 +1,235 @@
+package io;
+
+import entities.EvaluationCache;
+import entities.Hand;
+import entities.HandFactory;
+import enums.EvictionPolicy;
+import enums.OutputFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static entities.TestHands.HANDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MappedHandFileEvaluatorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void evaluate_writesResultsInLineOrder() throws IOException {
+        //Arrange
+        Path file = tempDir.resolve("hands.txt");
+        Files.write(file, repeat(HANDS, 50));
+        StringBuilder expected = new StringBuilder();
+        for (String line : repeat(HANDS, 50)) {
+            Hand hand = HandFactory.MakeHandFromString(line);
+            expected.append(hand).append(" => ").append(hand.handName()).append(System.lineSeparator());
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        //Act
+        long count = MappedHandFileEvaluator.evaluate(file, output, pool, null, null, 64);
+        pool.shutdown();
+
+        //Assert
+        assertEquals(500, count);
+        assertEquals(expected.toString(), output.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void evaluate_cachedMatchesUncached() throws IOException {
+        //Arrange
+        Path file = tempDir.resolve("hands.txt");
+        Files.write(file, repeat(HANDS, 50));
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        EvaluationCache cache = new EvaluationCache(64, EvictionPolicy.CLOCK);
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        //Act
+        MappedHandFileEvaluator.evaluate(file, expected, pool, null, null, 64);
+        long count = MappedHandFileEvaluator.evaluate(file, output, pool, cache, null, 64);
+        pool.shutdown();
+
+        //Assert
+        assertEquals(500, count);
+        assertEquals(expected.toString(StandardCharsets.US_ASCII), output.toString(StandardCharsets.US_ASCII));
+        assertEquals(500, cache.hits() + cache.misses());
+        assertTrue(cache.hits() > cache.misses());
+    }
+
+    @Test
+    void evaluate_skipsBlankLinesAndCarriageReturns() throws IOException {
+        //Arrange
+        Path file = tempDir.resolve("hands.txt");
+        Files.writeString(file, "QC JC KC AC TC\r\n\r\n  2S 4H 7D 6D 3H  ");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        //Act
+        long count = MappedHandFileEvaluator.evaluate(file, output, ForkJoinPool.commonPool());
+
+        //Assert
+        assertEquals(2, count);
+        assertEquals("QC JC KC AC TC => Royal Flush" + System.lineSeparator() + "2S 4H 7D 6D 3H => High Card" + System.lineSeparator(),
+                output.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void evaluateChunk_blankLinesReserveNoResults() throws IOException {
+        //Arrange
+        String text = "\n".repeat(100_000) + "QC JC KC AC TC\n" + "\r\n".repeat(100_000);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        //Act
+        MappedHandFileEvaluator.ChunkResult result = MappedHandFileEvaluator.evaluateChunk(
+                ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII)), null, false);
+        long count = result.writeTo(output);
+
+        //Assert
+        assertEquals(1, count);
+        assertEquals("QC JC KC AC TC => Royal Flush" + System.lineSeparator(), output.toString(StandardCharsets.US_ASCII));
+        assertTrue(result.bytes.length <= TextHandSink.MAX_LINE_LENGTH * 2);
+    }
+
+    @Test
+    void evaluate_rejectsBadLinesWithLineNumbers() throws IOException {
+        //Arrange
+        Path file = tempDir.resolve("hands.txt");
+        List<String> lines = new ArrayList<>(repeat(HANDS, 20));
+        lines.set(3, "QX JC KC AC TC");
+        lines.set(150, "QC QC KC AC TC");
+        lines.set(199, "QC JC KC AC");
+        Files.write(file, lines);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ByteArrayOutputStream rejected = new ByteArrayOutputStream();
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        //Act
+        long count;
+        try (RejectWriter rejects = new RejectWriter(rejected)) {
+            count = MappedHandFileEvaluator.evaluate(file, output, pool, null, rejects, 64);
+            pool.shutdown();
+
+            //Assert
+            assertEquals(3, rejects.count());
+        }
+        assertEquals(197, count);
+        assertEquals("4\tInvalid Card\tQX JC KC AC TC" + System.lineSeparator()
+                        + "151\tDuplicate Card In Hand\tQC QC KC AC TC" + System.lineSeparator()
+                        + "200\tA hand must contain 5 cards\tQC JC KC AC" + System.lineSeparator(),
+                rejected.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void evaluate_duplicateCard() throws IOException {
+        //Arrange
+        Path file = tempDir.resolve("hands.txt");
+        Files.writeString(file, "QC QC KC AC TC\n");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        //Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> MappedHandFileEvaluator.evaluate(file, output, ForkJoinPool.commonPool()));
+
+        //Assert
+        assertEquals("Line 1: Duplicate Card In Hand", exception.getMessage());
+    }
+
+    @Test
+    void evaluate_badLineNumberedFromStartOfFile() throws IOException {
+        //Arrange
+        Path file = tempDir.resolve("hands.txt");
+        List<String> lines = new ArrayList<>(repeat(HANDS, 50));
+        lines.set(300, "QC JC KC AC");
+        lines.set(400, "QX JC KC AC TC");
+        Files.write(file, lines);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        //Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> MappedHandFileEvaluator.evaluate(file, output, pool, null, null, 64));
+        pool.shutdown();
+
+        //Assert
+        assertEquals("Line 301: A hand must contain 5 cards", exception.getMessage());
+    }
+
+    @Test
+    void evaluateBinary_matchesTextFile() throws IOException {
+        //Arrange
+        Path text = tempDir.resolve("hands.txt");
+        Path binary = tempDir.resolve("hands.bin");
+        Files.write(text, repeat(HANDS, 50));
+        BinaryHandWriter.convert(text, binary, null);
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        //Act
+        MappedHandFileEvaluator.evaluate(text, expected, pool);
+        long count = MappedHandFileEvaluator.evaluateBinary(binary, output, pool, null, 7);
+        pool.shutdown();
+
+        //Assert
+        assertEquals(500, count);
+        assertEquals(expected.toString(StandardCharsets.US_ASCII), output.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void evaluateBinary_invalidRecord() throws IOException {
+        //Arrange
+        Path binary = tempDir.resolve("hands.bin");
+        try (BinaryHandWriter writer = new BinaryHandWriter(binary)) {
+            writer.write(new int[]{0, 1, 2, 3, 100});
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        //Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> MappedHandFileEvaluator.evaluateBinary(binary, output, ForkJoinPool.commonPool(), null));
+
+        //Assert
+        assertEquals("Invalid Hand Record 0", exception.getMessage());
+    }
+
+    @Test
+    void evaluate_sinkMatchesStreamOutput() throws IOException {
+        //Arrange
+        Path file = tempDir.resolve("hands.txt");
+        Files.write(file, repeat(HANDS, 50));
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        HandSink sink = HandSink.open(OutputFormat.TEXT, output);
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        //Act
+        MappedHandFileEvaluator.evaluate(file, expected, pool, null, null, 64);
+        long count = MappedHandFileEvaluator.evaluate(file, sink, pool, null, null, 64);
+        sink.finish();
+        pool.shutdown();
+
+        //Assert
+        assertEquals(500, count);
+        assertEquals(expected.toString(StandardCharsets.US_ASCII), output.toString(StandardCharsets.US_ASCII));
+    }
+
+    private static List<String> repeat(List<String> lines, int times) {
+        return Collections.nCopies(times, lines).stream().flatMap(List::stream).toList();
+    }
+}
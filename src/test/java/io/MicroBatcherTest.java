@@ -0,0 +1,127 @@
+package io;
+
+import entities.HandEvaluator;
+import entities.HandFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MicroBatcherTest {
+
+    private static final long ROYAL_FLUSH = HandFactory.MakeHandFromString("QC JC KC AC TC").getCardMask();
+    private static final long FULL_HOUSE = HandFactory.MakeHandFromString("9C 3H 9S 9H 3S").getCardMask();
+
+    @Test
+    void submit_evaluatesEachRequestInOrder() {
+        //Arrange
+        try (MicroBatcher batcher = new MicroBatcher(1024, 0)) {
+            //Act
+            MicroBatcher.Results results = batcher.submit(new long[]{ROYAL_FLUSH, FULL_HOUSE}, 2).join();
+
+            //Assert
+            assertEquals(HandEvaluator.ROYAL_FLUSH, results.categories()[0]);
+            assertEquals(HandEvaluator.FULL_HOUSE, results.categories()[1]);
+            assertEquals(HandEvaluator.strength(FULL_HOUSE), results.strengths()[1]);
+        }
+    }
+
+    @Test
+    void submit_coalescesConcurrentRequestsIntoOneBatch() {
+        //Arrange
+        try (MicroBatcher batcher = new MicroBatcher(4, TimeUnit.SECONDS.toNanos(10))) {
+            CompletableFuture<?>[] requests = new CompletableFuture<?>[4];
+
+            //Act
+            for (int i = 0; i < requests.length; i++) {
+                requests[i] = batcher.submit(new long[]{i % 2 == 0 ? ROYAL_FLUSH : FULL_HOUSE}, 1);
+            }
+            CompletableFuture.allOf(requests).join();
+
+            //Assert
+            assertEquals(1, batcher.batches());
+            assertEquals(4, batcher.hands());
+            assertEquals(HandEvaluator.FULL_HOUSE, ((MicroBatcher.Results) requests[3].join()).categories()[0]);
+        }
+    }
+
+    @Test
+    void submit_requestThatDoesNotFitStartsNextBatch() {
+        //Arrange
+        long[] masks = {ROYAL_FLUSH, FULL_HOUSE, ROYAL_FLUSH};
+        try (MicroBatcher batcher = new MicroBatcher(4, TimeUnit.MILLISECONDS.toNanos(100))) {
+            CompletableFuture<?>[] requests = new CompletableFuture<?>[4];
+
+            //Act
+            for (int i = 0; i < requests.length; i++) {
+                requests[i] = batcher.submit(masks, masks.length);
+            }
+            CompletableFuture.allOf(requests).join();
+
+            //Assert
+            //no two requests of three fit in a batch of four, so each must be a batch of its own
+            assertEquals(4, batcher.batches());
+            assertEquals(12, batcher.hands());
+            assertEquals(HandEvaluator.FULL_HOUSE, ((MicroBatcher.Results) requests[3].join()).categories()[1]);
+        }
+    }
+
+    @Test
+    void submit_oversizedRequestIsItsOwnBatch() {
+        //Arrange
+        long[] masks = new long[10];
+        Arrays.fill(masks, ROYAL_FLUSH);
+        try (MicroBatcher batcher = new MicroBatcher(4, TimeUnit.SECONDS.toNanos(10))) {
+            //Act
+            MicroBatcher.Results results = batcher.submit(masks, masks.length).join();
+
+            //Assert
+            assertEquals(10, results.categories().length);
+            assertEquals(1, batcher.batches());
+        }
+    }
+
+    @Test
+    void submit_afterClose() {
+        //Arrange
+        MicroBatcher batcher = new MicroBatcher(4, 0);
+        batcher.close();
+
+        //Act
+        CompletionException ex = assertThrows(CompletionException.class,
+                () -> batcher.submit(new long[]{ROYAL_FLUSH}, 1).join());
+
+        //Assert
+        assertEquals("Batcher Closed", ex.getCause().getMessage());
+    }
+
+    @Test
+    void submit_racingCloseAlwaysCompletes() throws Exception {
+        for (int round = 0; round < 200; round++) {
+            //Arrange
+            MicroBatcher batcher = new MicroBatcher(1 << 20, TimeUnit.SECONDS.toNanos(10));
+            CompletableFuture<?>[] requests = new CompletableFuture<?>[100];
+            Thread submitter = new Thread(() -> {
+                for (int i = 0; i < requests.length; i++) {
+                    requests[i] = batcher.submit(new long[]{ROYAL_FLUSH}, 1);
+                }
+            });
+
+            //Act
+            submitter.start();
+            batcher.close();
+            submitter.join();
+
+            //Assert
+            for (CompletableFuture<?> request : requests) {
+                assertThrows(ExecutionException.class, () -> request.get(10, TimeUnit.SECONDS));
+            }
+        }
+    }
+}
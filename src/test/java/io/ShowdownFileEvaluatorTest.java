@@ -0,0 +1,197 @@
+package io;
+
+import entities.Hand;
+import entities.HandFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ShowdownFileEvaluatorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void evaluate_writesWinnersInLineOrder() throws IOException {
+        //Arrange
+        Path file = tempDir.resolve("showdowns.txt");
+        Files.writeString(file, "QC JC KC AC TC | 2S 4H 7D 6D 3H\r\n"
+                + "\n"
+                + "2S 4H 7D 6D 3H|9H 9D 3S KS 3C | TC TH TS 8H 8D\n"
+                + "  AH KD 9S 7C 5D | AS KC 9D 7H 5C  \n");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        //Act
+        ShowdownTally tally = ShowdownFileEvaluator.evaluate(file, output, ForkJoinPool.commonPool(), null);
+
+        //Assert
+        assertEquals("QC JC KC AC TC | 2S 4H 7D 6D 3H => 1" + System.lineSeparator()
+                        + "2S 4H 7D 6D 3H|9H 9D 3S KS 3C | TC TH TS 8H 8D => 3" + System.lineSeparator()
+                        + "AH KD 9S 7C 5D | AS KC 9D 7H 5C => Tie 1 2" + System.lineSeparator(),
+                output.toString(StandardCharsets.US_ASCII));
+        assertEquals(3, tally.showdowns());
+        assertEquals(1, tally.ties());
+        assertEquals(3, tally.seats());
+        assertEquals(1, tally.wins(1));
+        assertEquals(0, tally.wins(2));
+        assertEquals(1, tally.wins(3));
+        assertEquals(1, tally.splits(1));
+        assertEquals(1, tally.splits(2));
+    }
+
+    @Test
+    void evaluate_kickersDecideTheSameCategory() throws IOException {
+        //Arrange
+        Path file = tempDir.resolve("showdowns.txt");
+        Files.writeString(file, "9H 9D AS 7C 4D | 9S 9C KD QH JH\n");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        //Act
+        ShowdownFileEvaluator.evaluate(file, output, ForkJoinPool.commonPool(), null);
+
+        //Assert
+        assertEquals("9H 9D AS 7C 4D | 9S 9C KD QH JH => 1" + System.lineSeparator(),
+                output.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void evaluate_matchesHandComparisonAcrossChunks() throws IOException {
+        //Arrange
+        Random random = new Random(7);
+        List<String> lines = new ArrayList<>();
+        StringBuilder expected = new StringBuilder();
+        long[] wins = new long[ShowdownFileEvaluator.MAX_SEATS];
+        for (int i = 0; i < 2000; i++) {
+            List<String> deck = deck();
+            Collections.shuffle(deck, random);
+            int seats = 2 + random.nextInt(ShowdownFileEvaluator.MAX_SEATS - 1);
+            List<String> hands = new ArrayList<>();
+            List<Hand> parsed = new ArrayList<>();
+            for (int seat = 0; seat < seats; seat++) {
+                String hand = String.join(" ", deck.subList(seat * 5, seat * 5 + 5));
+                hands.add(hand);
+                parsed.add(HandFactory.MakeHandFromString(hand));
+            }
+            String line = String.join(" | ", hands);
+            lines.add(line);
+
+            Hand best = Collections.max(parsed);
+            List<Integer> winners = new ArrayList<>();
+            for (int seat = 0; seat < seats; seat++) {
+                if (parsed.get(seat).compareTo(best) == 0) {
+                    winners.add(seat + 1);
+                }
+            }
+            if (winners.size() == 1) {
+                wins[winners.get(0) - 1]++;
+                expected.append(line).append(" => ").append(winners.get(0)).append(System.lineSeparator());
+            } else {
+                expected.append(line).append(" => Tie");
+                winners.forEach(seat -> expected.append(' ').append(seat));
+                expected.append(System.lineSeparator());
+            }
+        }
+        Path file = tempDir.resolve("showdowns.txt");
+        Files.write(file, lines);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        //Act
+        ShowdownTally tally = ShowdownFileEvaluator.evaluate(file, output, pool, null, 4096);
+        pool.shutdown();
+
+        //Assert
+        assertEquals(expected.toString(), output.toString(StandardCharsets.US_ASCII));
+        assertEquals(2000, tally.showdowns());
+        for (int seat = 1; seat <= ShowdownFileEvaluator.MAX_SEATS; seat++) {
+            assertEquals(wins[seat - 1], tally.wins(seat));
+        }
+    }
+
+    @Test
+    void evaluate_rejectsBadLinesWithLineNumbers() throws IOException {
+        //Arrange
+        Path file = tempDir.resolve("showdowns.txt");
+        List<String> lines = new ArrayList<>(Collections.nCopies(200, "QC JC KC AC TC | 2S 4H 7D 6D 3H"));
+        lines.set(3, "QC JC KC AC TC");
+        lines.set(50, "QC JC KC AC TC | QC 4H 7D 6D 3H");
+        lines.set(120, "QC JC KC AC TC |  | 2S 4H 7D 6D 3H");
+        lines.set(199, "QC JC KC AC TC | 2S 4H 7D 6D");
+        Files.write(file, lines);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ByteArrayOutputStream rejected = new ByteArrayOutputStream();
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        //Act
+        ShowdownTally tally;
+        try (RejectWriter rejects = new RejectWriter(rejected)) {
+            tally = ShowdownFileEvaluator.evaluate(file, output, pool, rejects, 256);
+            pool.shutdown();
+
+            //Assert
+            assertEquals(4, rejects.count());
+        }
+        assertEquals(196, tally.showdowns());
+        assertEquals(196, tally.wins(1));
+        assertEquals("4\tA showdown must contain at least 2 hands\tQC JC KC AC TC" + System.lineSeparator()
+                        + "51\tDuplicate Card In Showdown\tQC JC KC AC TC | QC 4H 7D 6D 3H" + System.lineSeparator()
+                        + "121\tA hand must contain 5 cards\tQC JC KC AC TC |  | 2S 4H 7D 6D 3H" + System.lineSeparator()
+                        + "200\tA hand must contain 5 cards\tQC JC KC AC TC | 2S 4H 7D 6D" + System.lineSeparator(),
+                rejected.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void evaluate_sharedCard() throws IOException {
+        //Arrange
+        Path file = tempDir.resolve("showdowns.txt");
+        Files.writeString(file, "QC JC KC AC TC | 2S 4H 7D 6D TC\n");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        //Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> ShowdownFileEvaluator.evaluate(file, output, ForkJoinPool.commonPool(), null));
+
+        //Assert
+        assertEquals("Line 1: Duplicate Card In Showdown", exception.getMessage());
+    }
+
+    @Test
+    void evaluate_badLineKeepsEarlierShowdowns() throws IOException {
+        //Arrange
+        Path file = tempDir.resolve("showdowns.txt");
+        Files.writeString(file, "QC JC KC AC TC | 2S 4H 7D 6D 3H\nQC JC KC AC TC\n");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        //Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> ShowdownFileEvaluator.evaluate(file, output, ForkJoinPool.commonPool(), null));
+
+        //Assert
+        assertEquals("Line 2: A showdown must contain at least 2 hands", exception.getMessage());
+        assertEquals("QC JC KC AC TC | 2S 4H 7D 6D 3H => 1" + System.lineSeparator(),
+                output.toString(StandardCharsets.US_ASCII));
+    }
+
+    private static List<String> deck() {
+        List<String> deck = new ArrayList<>();
+        for (char rank : "23456789TJQKA".toCharArray()) {
+            for (char suit : "HDSC".toCharArray()) {
+                deck.add("" + rank + suit);
+            }
+        }
+        return deck;
+    }
+}
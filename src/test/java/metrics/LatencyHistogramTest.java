@@ -0,0 +1,75 @@
+package metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    void bucketIndex_smallValuesAreExact() {
+        for (int value = 0; value < LatencyHistogram.SUB_BUCKETS * 2; value++) {
+            //Act
+            int index = LatencyHistogram.bucketIndex(value);
+
+            //Assert
+            assertEquals(value, index);
+            assertEquals(value, LatencyHistogram.bucketUpperBound(index));
+        }
+    }
+
+    @Test
+    void bucketIndex_bucketsAreContiguous() {
+        for (int index = 1; index < LatencyHistogram.BUCKET_COUNT - 1; index++) {
+            //Arrange
+            long upper = LatencyHistogram.bucketUpperBound(index);
+
+            //Act
+            int actual = LatencyHistogram.bucketIndex(upper);
+            int next = LatencyHistogram.bucketIndex(upper + 1);
+
+            //Assert
+            assertEquals(index, actual);
+            assertEquals(index + 1, next);
+        }
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+    }
+
+    @Test
+    void bucketUpperBound_withinPrecision() {
+        //Arrange
+        Random random = new Random(31);
+
+        for (int i = 0; i < 10_000; i++) {
+            long value = random.nextLong() >>> (1 + random.nextInt(Long.SIZE - 1));
+
+            //Act
+            long upper = LatencyHistogram.bucketUpperBound(LatencyHistogram.bucketIndex(value));
+
+            //Assert
+            assertTrue(upper >= value);
+            assertTrue(upper - value <= value / LatencyHistogram.SUB_BUCKETS);
+        }
+    }
+
+    @Test
+    void record_countsTotalAndMax() {
+        //Arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        //Act
+        histogram.record(100);
+        histogram.record(1_000);
+        histogram.record(-5);
+
+        //Assert
+        long[] counts = histogram.bucketCounts();
+        assertEquals(1, counts[0]);
+        assertEquals(1, counts[LatencyHistogram.bucketIndex(100)]);
+        assertEquals(1_100, histogram.totalNanos());
+        assertEquals(1_000, histogram.maxNanos());
+    }
+}
@@ -0,0 +1,84 @@
+package metrics;
+
+import enums.PipelineStage;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PipelineMetricsTest {
+
+    @Test
+    void snapshot_countsRunsAndErrorsPerStage() {
+        //Arrange
+        PipelineMetrics metrics = new PipelineMetrics();
+        StageMetrics parse = metrics.stage(PipelineStage.PARSE);
+
+        //Act
+        long end = parse.record(System.nanoTime());
+        parse.record(end);
+        parse.error();
+        Map<PipelineStage, StageSnapshot> snapshot = metrics.snapshot();
+
+        //Assert
+        assertEquals(PipelineStage.values().length, snapshot.size());
+        assertEquals(3, snapshot.get(PipelineStage.PARSE).count());
+        assertEquals(1, snapshot.get(PipelineStage.PARSE).errors());
+        assertEquals(2, snapshot.get(PipelineStage.PARSE).recorded());
+        assertEquals(0, snapshot.get(PipelineStage.FORMAT).count());
+    }
+
+    @Test
+    void snapshot_recordsFromManyThreads() {
+        //Arrange
+        PipelineMetrics metrics = new PipelineMetrics();
+        StageMetrics evaluate = metrics.stage(PipelineStage.EVALUATE);
+
+        //Act
+        IntStream.range(0, 100_000).parallel().forEach(i -> evaluate.record(System.nanoTime()));
+
+        //Assert
+        assertEquals(100_000, metrics.snapshot().get(PipelineStage.EVALUATE).recorded());
+    }
+
+    @Test
+    void percentileNanos_fromBuckets() {
+        //Arrange
+        long[] buckets = new long[LatencyHistogram.BUCKET_COUNT];
+        buckets[LatencyHistogram.bucketIndex(100)] = 90;
+        buckets[LatencyHistogram.bucketIndex(10_000)] = 10;
+        StageSnapshot snapshot = new StageSnapshot(100, 0, 90 * 100 + 10 * 10_000, 10_000, buckets);
+
+        //Act
+        long median = snapshot.percentileNanos(50);
+        long tail = snapshot.percentileNanos(99);
+
+        //Assert
+        assertEquals(LatencyHistogram.bucketUpperBound(LatencyHistogram.bucketIndex(100)), median);
+        assertEquals(10_000, tail);
+        assertEquals(1_090.0, snapshot.meanNanos());
+    }
+
+    @Test
+    void report_listsEveryStage() {
+        //Arrange
+        PipelineMetrics metrics = new PipelineMetrics();
+        metrics.stage(PipelineStage.FILE_READ).record(System.nanoTime());
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        //Act
+        metrics.report(new PrintStream(bytes, true, StandardCharsets.UTF_8));
+
+        //Assert
+        String report = bytes.toString(StandardCharsets.UTF_8);
+        for (PipelineStage stage : PipelineStage.values()) {
+            assertTrue(report.contains(stage.toString()), stage.toString());
+        }
+    }
+}